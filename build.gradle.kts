@@ -7,6 +7,7 @@ plugins {
   id("com.github.johnrengelman.shadow") version "7.1.2"
   id("com.diffplug.spotless") version "8.0.0"
   id("org.openjfx.javafxplugin") version "0.0.13"
+  id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "it.unibo"
@@ -54,6 +55,12 @@ javafx {
   modules = listOf("javafx.controls", "javafx.fxml")
 }
 
+jmh {
+  jmhVersion.set("1.37")
+  resultFormat.set("JSON")
+  findProperty("benchmarks")?.let { includes.set(listOf(it.toString())) }
+}
+
 tasks.withType<ShadowJar> {
   archiveClassifier.set("fat")
   manifest { attributes(mapOf("Main-Verticle" to mainVerticleName)) }
@@ -66,3 +73,26 @@ tasks.withType<Test> {
 }
 
 tasks.withType<JavaExec> { args = listOf(mainVerticleName) }
+
+tasks.register<JavaExec>("runHeadless") {
+  group = "application"
+  description = "Runs the game without a display, e.g. -Pticks=100000 -Prate=0"
+  classpath = sourceSets["main"].runtimeClasspath
+  mainClass.set("it.unibo.donkeykong.headless.HeadlessLauncher")
+  args =
+      listOfNotNull(
+          findProperty("ticks")?.let { "--ticks=$it" },
+          findProperty("rate")?.let { "--rate=$it" },
+          findProperty("layout")?.let { "--layout=$it" },
+          findProperty("parallel")?.let { "--parallel" },
+          findProperty("matches")?.let { "--matches=$it" },
+          findProperty("threads")?.let { "--threads=$it" },
+          findProperty("metrics")?.let { "--metrics=$it" },
+          findProperty("record")?.let { "--record=$it" },
+          findProperty("replay")?.let { "--replay=$it" },
+          findProperty("scenario")?.let { "--scenario=$it" })
+  findProperty("jfr")?.let {
+    val settings = file("src/main/resources/jfr/donkeykong.jfc")
+    jvmArgs("-XX:StartFlightRecording=settings=$settings,filename=$it")
+  }
+}
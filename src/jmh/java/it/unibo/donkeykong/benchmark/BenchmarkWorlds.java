@@ -0,0 +1,67 @@
+package it.unibo.donkeykong.benchmark;
+
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.RectangleCollider;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Worlds shared by the benchmarks: the two players, and barrels and platforms laid out on a grid
+ * covering the world. The grid keeps a margin wider than any collider from the borders of the
+ * world, and stays above {@link Constants#BOTTOM_THRESHOLD}, so that no system clamps or removes
+ * the entities for being out of it. The more entities, the smaller the cells, so large worlds are
+ * crowded and their bodies touch, as in a busy level.
+ */
+final class BenchmarkWorlds {
+
+  private static final int MARGIN = 32;
+  private static final int PLATFORM_WIDTH = 48;
+  private static final int PLATFORM_HEIGHT = 16;
+
+  private BenchmarkWorlds() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Populates a world through its entity factory.
+   *
+   * @param factory the entity factory of the world
+   * @param entities the number of barrels and platforms to create
+   * @param barrelShare the share of barrels among them, between 0 and 1
+   * @return the barrels and platforms, in the order of the cells of the grid
+   */
+  static List<Entity> populate(
+      final EntityFactory factory, final int entities, final double barrelShare) {
+    factory.createFirstPlayer();
+    factory.createSecondPlayer();
+    final int barrels = (int) Math.round(entities * barrelShare);
+    final int columns = (int) Math.ceil(Math.sqrt(entities));
+    final int rows = Math.max(1, (entities + columns - 1) / columns);
+    final List<Entity> created = new ArrayList<>(entities);
+    for (int i = 0; i < barrels; i++) {
+      created.add(
+          factory.createBarrel(
+              cell(i, columns, rows),
+              i % 2 == 0 ? Constants.BARREL_VELOCITY : -Constants.BARREL_VELOCITY));
+    }
+    final Map<PositionComponent, RectangleCollider> platforms = new LinkedHashMap<>();
+    for (int i = barrels; i < entities; i++) {
+      platforms.put(
+          cell(i, columns, rows), new RectangleCollider(PLATFORM_WIDTH, PLATFORM_HEIGHT));
+    }
+    created.addAll(factory.createPlatforms(platforms));
+    return created;
+  }
+
+  private static PositionComponent cell(final int index, final int columns, final int rows) {
+    final double width = (Constants.WORLD_WIDTH - 2.0 * MARGIN) / columns;
+    final double height = (Constants.BOTTOM_THRESHOLD - 2.0 * MARGIN) / rows;
+    return new PositionComponent(
+        MARGIN + (index % columns + 0.5) * width, MARGIN + (index / columns + 0.5) * height);
+  }
+}
@@ -0,0 +1,78 @@
+package it.unibo.donkeykong.benchmark;
+
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.system.CollisionSystem;
+import it.unibo.donkeykong.ecs.system.EventDispatchSystem;
+import it.unibo.donkeykong.ecs.system.api.BroadPhase;
+import it.unibo.donkeykong.ecs.system.common.BruteForceBroadPhase;
+import it.unibo.donkeykong.ecs.system.common.UniformGridBroadPhase;
+import it.unibo.donkeykong.scenario.Scenario;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link CollisionSystem} with each {@link BroadPhase}, on a {@link Scenario}
+ * spreading the bodies over the world as in a match: a quarter of platforms, a quarter of ladders
+ * and half of barrels. Nothing moves, and the collision events are cleared after each update, so
+ * every update does the same work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CollisionBenchmark {
+
+  private static final float DELTA_TIME = 1f / Constants.TICK_RATE;
+
+  @Param({"BruteForce", "UniformGrid"})
+  private String broadPhase;
+
+  @Param({"100", "1000", "10000"})
+  private int bodies;
+
+  private World world;
+
+  @Setup
+  public void setUp() {
+    this.world = new WorldImpl();
+    Scenario.parse(
+            "platforms="
+                + this.bodies / 4
+                + " ladders="
+                + this.bodies / 4
+                + " barrels="
+                + this.bodies / 2
+                + " players=0")
+        .populate(this.world);
+    this.world.addSystem(new CollisionSystem(create(this.broadPhase)));
+    this.world.addSystem(new EventDispatchSystem());
+  }
+
+  private static BroadPhase create(final String name) {
+    return switch (name) {
+      case "BruteForce" -> new BruteForceBroadPhase();
+      case "UniformGrid" -> new UniformGridBroadPhase();
+      default -> throw new IllegalArgumentException("Unknown broad phase: " + name);
+    };
+  }
+
+  @Benchmark
+  public int update() {
+    this.world.update(DELTA_TIME);
+    return this.world.currentTick();
+  }
+}
@@ -0,0 +1,108 @@
+package it.unibo.donkeykong.benchmark;
+
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.core.api.WorldSnapshot;
+import it.unibo.donkeykong.ecs.entity.EntityFactoryImpl;
+import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
+import it.unibo.donkeykong.ecs.system.BoundariesSystem;
+import it.unibo.donkeykong.ecs.system.ClimbingSystem;
+import it.unibo.donkeykong.ecs.system.CollisionSystem;
+import it.unibo.donkeykong.ecs.system.EventDispatchSystem;
+import it.unibo.donkeykong.ecs.system.GravitySystem;
+import it.unibo.donkeykong.ecs.system.HealthSystem;
+import it.unibo.donkeykong.ecs.system.InputSystem;
+import it.unibo.donkeykong.ecs.system.MovementSystem;
+import it.unibo.donkeykong.ecs.system.PhysicsSystem;
+import it.unibo.donkeykong.ecs.system.SpawnSystem;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of a world update running a single system of {@code ecs.system}, so that the commands
+ * the system records are applied as in the game. Systems moving, creating or removing entities
+ * change the world they run on, so the world is restored to a snapshot of its initial state before
+ * each invocation, and every measured update runs on the same world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SystemBenchmark {
+
+  private static final float DELTA_TIME = 1f / Constants.TICK_RATE;
+
+  @Param({
+    "MovementSystem",
+    "BoundariesSystem",
+    "CollisionSystem",
+    "PhysicsSystem",
+    "HealthSystem",
+    "SpawnSystem",
+    "ClimbingSystem",
+    "InputSystem",
+    "GravitySystem",
+    "EventDispatchSystem"
+  })
+  private String system;
+
+  @Param({"10", "1000", "100000"})
+  private int entities;
+
+  @Param({"0.1", "0.5", "0.9"})
+  private double barrelShare;
+
+  private World world;
+  private WorldSnapshot initialState;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.world = new WorldImpl();
+    final EntityFactory factory = new EntityFactoryImpl(this.world);
+    BenchmarkWorlds.populate(factory, this.entities, this.barrelShare);
+    this.world.addSystem(create(this.system, factory));
+    this.initialState = this.world.snapshot();
+  }
+
+  @Setup(Level.Invocation)
+  public void restore() {
+    this.world.restore(this.initialState);
+  }
+
+  private static GameSystem create(final String name, final EntityFactory factory) {
+    return switch (name) {
+      case "MovementSystem" -> new MovementSystem();
+      case "BoundariesSystem" -> new BoundariesSystem();
+      case "CollisionSystem" -> new CollisionSystem();
+      case "PhysicsSystem" -> new PhysicsSystem();
+      case "HealthSystem" -> new HealthSystem();
+      case "SpawnSystem" -> new SpawnSystem(factory);
+      case "ClimbingSystem" -> new ClimbingSystem();
+      case "InputSystem" -> new InputSystem();
+      case "GravitySystem" -> new GravitySystem();
+      case "EventDispatchSystem" -> new EventDispatchSystem();
+      default -> throw new IllegalArgumentException("Unknown system: " + name);
+    };
+  }
+
+  @Benchmark
+  public int update() {
+    this.world.update(DELTA_TIME);
+    return this.world.currentTick();
+  }
+}
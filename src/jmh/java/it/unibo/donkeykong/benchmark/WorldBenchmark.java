@@ -0,0 +1,126 @@
+package it.unibo.donkeykong.benchmark;
+
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.SolidComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.EntityFactoryImpl;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the operations of {@link WorldImpl}. Each operation leaves the world as it found
+ * it, so that its cost does not drift with the number of invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WorldBenchmark {
+
+  private static final List<Class<? extends Component>> POSITIONED =
+      List.of(PositionComponent.class);
+  private static final List<Class<? extends Component>> BODIES =
+      List.of(PositionComponent.class, Collider.class);
+  private static final List<Class<? extends Component>> MOVING_BODIES =
+      List.of(PositionComponent.class, VelocityComponent.class, Collider.class);
+  private static final Component MARKER = new SolidComponent();
+
+  @Param({"10", "1000", "100000"})
+  private int entities;
+
+  @Param({"0.5"})
+  private double barrelShare;
+
+  private World world;
+  private EntityFactory factory;
+  private List<Entity> population;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    this.world = new WorldImpl();
+    this.factory = new EntityFactoryImpl(this.world);
+    this.population = BenchmarkWorlds.populate(this.factory, this.entities, this.barrelShare);
+    this.next = 0;
+  }
+
+  private Entity nextEntity() {
+    this.next = this.next + 1 == this.population.size() ? 0 : this.next + 1;
+    return this.population.get(this.next);
+  }
+
+  @Benchmark
+  public Entity createAndRemoveEntity() {
+    final Entity entity = this.world.createEntity();
+    this.world.removeEntity(entity);
+    return entity;
+  }
+
+  @Benchmark
+  public Entity createAndRemoveBarrel() {
+    final Entity barrel = this.factory.createBarrel(0);
+    this.world.removeEntity(barrel);
+    return barrel;
+  }
+
+  @Benchmark
+  public Entity addAndRemoveComponent() {
+    final Entity entity = nextEntity();
+    this.world.addComponentToEntity(entity, MARKER);
+    this.world.removeComponentFromEntity(entity, MARKER);
+    return entity;
+  }
+
+  @Benchmark
+  public Entity updateComponent() {
+    final Entity entity = nextEntity();
+    this.world.updateComponentOnEntity(entity, entity.requireComponent(PositionComponent.class));
+    return entity;
+  }
+
+  @Benchmark
+  public Set<Entity> getEntitiesWithPosition() {
+    return this.world.getEntitiesWithComponents(POSITIONED);
+  }
+
+  @Benchmark
+  public Set<Entity> getEntitiesWithPositionAndCollider() {
+    return this.world.getEntitiesWithComponents(BODIES);
+  }
+
+  @Benchmark
+  public Set<Entity> getEntitiesWithPositionVelocityAndCollider() {
+    return this.world.getEntitiesWithComponents(MOVING_BODIES);
+  }
+
+  @Benchmark
+  public Optional<PositionComponent> getComponent() {
+    return nextEntity().getComponent(PositionComponent.class);
+  }
+
+  @Benchmark
+  public PositionComponent getComponentOfEntity() {
+    return this.world.getComponentOfEntity(nextEntity(), PositionComponent.class);
+  }
+}
@@ -0,0 +1,382 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.util.*;
+
+/**
+ * Table holding every entity that shares the same set of component classes. Each component class
+ * owns a column, and the components of an entity all live on the same row of their columns. The
+ * set of classes is the signature of the archetype, a mask of the ids given to the classes by the
+ * {@link ComponentTypeRegistry}.
+ *
+ * <p>Next to each component the table keeps the tick at which it was added and the tick at which it
+ * was last written, so that consumers can skip the rows that did not change.
+ *
+ * <p>A {@link Snapshot} of the table shares its arrays with the table, which copies them before its
+ * next write. Taking a snapshot of a table that has not been written since the previous one costs
+ * nothing, except for the columns of mutable components, which are always copied.
+ */
+final class Archetype {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private final BitSet signature;
+  private final int[] columnByTypeId;
+  private final boolean[] mutableColumns;
+  private final boolean hasMutableColumns;
+  private Column[] columns;
+  private int[][] addedTicks;
+  private int[][] changedTicks;
+  private Archetype[] addEdges;
+  private Archetype[] removeEdges;
+  private Entity[] entities;
+  private int size;
+  private volatile boolean shared;
+  private Snapshot lastSnapshot;
+
+  /**
+   * Point-in-time content of an archetype. The arrays are shared with the archetype until it is
+   * written again, and must never be modified.
+   *
+   * @param entities the entities of the rows
+   * @param size the number of rows
+   * @param columns the columns of the components
+   * @param addedTicks the tick at which each component was added
+   * @param changedTicks the tick at which each component was last written
+   */
+  record Snapshot(
+      Entity[] entities, int size, Column[] columns, int[][] addedTicks, int[][] changedTicks) {}
+
+  /**
+   * Creates an empty table for the given signature.
+   *
+   * @param signature the ids of the concrete component classes stored by this archetype
+   * @param registry the registry the ids come from
+   * @param layout the layout of the columns
+   */
+  Archetype(
+      final BitSet signature, final ComponentTypeRegistry registry, final StorageLayout layout) {
+    this.signature = (BitSet) signature.clone();
+    this.columnByTypeId = new int[Math.max(this.signature.length(), 1)];
+    Arrays.fill(this.columnByTypeId, -1);
+    final List<Class<? extends Component>> types = new ArrayList<>();
+    this.mutableColumns = new boolean[this.signature.cardinality()];
+    boolean hasMutableColumns = false;
+    for (int id = this.signature.nextSetBit(0); id >= 0; id = this.signature.nextSetBit(id + 1)) {
+      this.columnByTypeId[id] = types.size();
+      this.mutableColumns[types.size()] = registry.isMutable(id);
+      hasMutableColumns |= registry.isMutable(id);
+      types.add(registry.typeOf(id));
+    }
+    this.hasMutableColumns = hasMutableColumns;
+    this.columns = layout.newColumns(types, INITIAL_CAPACITY);
+    this.addedTicks = new int[this.columns.length][INITIAL_CAPACITY];
+    this.changedTicks = new int[this.columns.length][INITIAL_CAPACITY];
+    this.addEdges = new Archetype[0];
+    this.removeEdges = new Archetype[0];
+    this.entities = new Entity[INITIAL_CAPACITY];
+    this.size = 0;
+    this.shared = false;
+    this.lastSnapshot = null;
+  }
+
+  BitSet signature() {
+    return this.signature;
+  }
+
+  int size() {
+    return this.size;
+  }
+
+  Entity entityAt(final int row) {
+    return this.entities[row];
+  }
+
+  /**
+   * Finds the column of a concrete component class.
+   *
+   * @param typeId the id of the concrete component class
+   * @return the column index, or {@code -1} if the archetype has no such column
+   */
+  int columnOfType(final int typeId) {
+    return typeId < this.columnByTypeId.length ? this.columnByTypeId[typeId] : -1;
+  }
+
+  /**
+   * Finds the first column whose class satisfies a mask, which is how a component is looked up by
+   * an interface such as {@code Collider}.
+   *
+   * @param mask the ids of the concrete classes accepted
+   * @return the column index, or {@code -1} if no column matches
+   */
+  int columnOf(final BitSet mask) {
+    for (int id = mask.nextSetBit(0);
+        id >= 0 && id < this.columnByTypeId.length;
+        id = mask.nextSetBit(id + 1)) {
+      if (this.columnByTypeId[id] >= 0) {
+        return this.columnByTypeId[id];
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Checks whether this archetype satisfies every requested mask, one word-wide intersection per
+   * requested component class.
+   *
+   * @param masks the masks of the requested component classes
+   * @return true if the signature intersects each mask
+   */
+  boolean matches(final BitSet[] masks) {
+    for (final BitSet mask : masks) {
+      if (!this.signature.intersects(mask)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  Component get(final int row, final int column) {
+    return this.columns[column].get(row);
+  }
+
+  void set(final int row, final int column, final Component component) {
+    ensureWritable();
+    this.columns[column].set(row, component);
+  }
+
+  /**
+   * Records that the component of a row has just been added.
+   *
+   * @param row the row of the entity
+   * @param column the column of the component
+   * @param tick the current tick of the world
+   */
+  void markAdded(final int row, final int column, final int tick) {
+    ensureWritable();
+    this.addedTicks[column][row] = tick;
+    this.changedTicks[column][row] = tick;
+  }
+
+  /**
+   * Records that the component of a row has just been written.
+   *
+   * @param row the row of the entity
+   * @param column the column of the component
+   * @param tick the current tick of the world
+   */
+  void markChanged(final int row, final int column, final int tick) {
+    ensureWritable();
+    this.changedTicks[column][row] = tick;
+  }
+
+  int addedTick(final int row, final int column) {
+    return this.addedTicks[column][row];
+  }
+
+  int changedTick(final int row, final int column) {
+    return this.changedTicks[column][row];
+  }
+
+  /**
+   * Gets a column of two-double components, to read and write its fields in place. Writes must be
+   * preceded by {@link #markChanged}, which detaches the column from any snapshot.
+   *
+   * @param column the column index, which must hold a position or a velocity
+   * @return the column
+   */
+  PairColumn pairColumn(final int column) {
+    return (PairColumn) this.columns[column];
+  }
+
+  /**
+   * Returns the components stored on a row.
+   *
+   * @param row the row of the entity
+   * @return a new set with the components of the row
+   */
+  Set<Component> componentsAt(final int row) {
+    final Set<Component> components = new HashSet<>();
+    for (final Column column : this.columns) {
+      components.add(column.get(row));
+    }
+    return components;
+  }
+
+  /**
+   * Appends an entity at the end of the table, leaving its components unset.
+   *
+   * @param entity the entity to append
+   * @return the row assigned to the entity
+   */
+  int append(final Entity entity) {
+    ensureWritable();
+    if (this.size == this.entities.length) {
+      grow(this.entities.length * 2);
+    }
+    this.entities[this.size] = entity;
+    return this.size++;
+  }
+
+  /**
+   * Makes room for the given number of rows, so that appending up to that many rows never grows
+   * the arrays again.
+   *
+   * @param rows the number of rows the table must be able to hold
+   */
+  void reserve(final int rows) {
+    ensureWritable();
+    if (rows > this.entities.length) {
+      grow(Math.max(rows, this.entities.length * 2));
+    }
+  }
+
+  private void grow(final int capacity) {
+    this.entities = Arrays.copyOf(this.entities, capacity);
+    for (int i = 0; i < this.columns.length; i++) {
+      this.columns[i].grow(capacity);
+      this.addedTicks[i] = Arrays.copyOf(this.addedTicks[i], capacity);
+      this.changedTicks[i] = Arrays.copyOf(this.changedTicks[i], capacity);
+    }
+  }
+
+  /**
+   * Removes a row by moving the last row into its place.
+   *
+   * @param row the row to remove
+   * @return the entity now stored at {@code row}, or {@code null} if the removed row was the last
+   */
+  Entity swapRemove(final int row) {
+    ensureWritable();
+    final int last = --this.size;
+    final Entity moved = last != row ? this.entities[last] : null;
+    this.entities[row] = this.entities[last];
+    this.entities[last] = null;
+    for (int i = 0; i < this.columns.length; i++) {
+      this.columns[i].move(last, row);
+      this.addedTicks[i][row] = this.addedTicks[i][last];
+      this.changedTicks[i][row] = this.changedTicks[i][last];
+    }
+    return moved;
+  }
+
+  /**
+   * Copies the components of a row, with their ticks, into a new row of another archetype. Columns
+   * missing from the target are dropped, columns missing from this archetype are left unset.
+   *
+   * @param row the row to copy
+   * @param target the destination archetype
+   * @return the row assigned in the target archetype
+   */
+  int copyRowTo(final int row, final Archetype target) {
+    final int targetRow = target.append(this.entities[row]);
+    for (int id = 0; id < this.columnByTypeId.length; id++) {
+      final int column = this.columnByTypeId[id];
+      final int targetColumn = target.columnOfType(id);
+      if (column >= 0 && targetColumn >= 0) {
+        this.columns[column].copyTo(row, target.columns[targetColumn], targetRow);
+        target.addedTicks[targetColumn][targetRow] = this.addedTicks[column][row];
+        target.changedTicks[targetColumn][targetRow] = this.changedTicks[column][row];
+      }
+    }
+    return targetRow;
+  }
+
+  /**
+   * Takes a snapshot of the content of this archetype.
+   *
+   * @return the current content of the archetype
+   */
+  Snapshot snapshot() {
+    if (!this.shared || this.lastSnapshot == null || this.hasMutableColumns) {
+      this.lastSnapshot =
+          new Snapshot(
+              this.entities,
+              this.size,
+              detachMutableColumns(this.columns, this.size),
+              this.addedTicks,
+              this.changedTicks);
+      this.shared = true;
+    }
+    return this.lastSnapshot;
+  }
+
+  /**
+   * Brings this archetype back to the content of a snapshot.
+   *
+   * @param snapshot the content to restore, or {@code null} to empty the archetype
+   */
+  void restore(final Snapshot snapshot) {
+    if (snapshot == null) {
+      ensureWritable();
+      Arrays.fill(this.entities, 0, this.size, null);
+      this.size = 0;
+      return;
+    }
+    this.entities = snapshot.entities();
+    this.size = snapshot.size();
+    this.columns = detachMutableColumns(snapshot.columns(), snapshot.size());
+    this.addedTicks = snapshot.addedTicks();
+    this.changedTicks = snapshot.changedTicks();
+    this.shared = true;
+    this.lastSnapshot = this.hasMutableColumns ? null : snapshot;
+  }
+
+  private Column[] detachMutableColumns(final Column[] source, final int rows) {
+    final Column[] copy = source.clone();
+    for (int i = 0; i < copy.length; i++) {
+      if (this.mutableColumns[i]) {
+        copy[i] = ((ObjectColumn) source[i]).deepCopy(rows);
+      }
+    }
+    return copy;
+  }
+
+  private void ensureWritable() {
+    if (this.shared) {
+      detach();
+    }
+  }
+
+  /**
+   * Copies the arrays shared with a snapshot. Systems updated at the same time may write different
+   * columns of the same archetype, so only the first of them copies the arrays.
+   */
+  private synchronized void detach() {
+    if (this.shared) {
+      this.entities = this.entities.clone();
+      this.columns = this.columns.clone();
+      this.addedTicks = this.addedTicks.clone();
+      this.changedTicks = this.changedTicks.clone();
+      for (int i = 0; i < this.columns.length; i++) {
+        this.columns[i] = this.columns[i].copy();
+        this.addedTicks[i] = this.addedTicks[i].clone();
+        this.changedTicks[i] = this.changedTicks[i].clone();
+      }
+      this.shared = false;
+    }
+  }
+
+  Archetype addEdge(final int typeId) {
+    return typeId < this.addEdges.length ? this.addEdges[typeId] : null;
+  }
+
+  void putAddEdge(final int typeId, final Archetype target) {
+    if (typeId >= this.addEdges.length) {
+      this.addEdges = Arrays.copyOf(this.addEdges, typeId + 1);
+    }
+    this.addEdges[typeId] = target;
+  }
+
+  Archetype removeEdge(final int typeId) {
+    return typeId < this.removeEdges.length ? this.removeEdges[typeId] : null;
+  }
+
+  void putRemoveEdge(final int typeId, final Archetype target) {
+    if (typeId >= this.removeEdges.length) {
+      this.removeEdges = Arrays.copyOf(this.removeEdges, typeId + 1);
+    }
+    this.removeEdges[typeId] = target;
+  }
+}
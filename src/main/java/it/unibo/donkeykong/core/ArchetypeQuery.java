@@ -0,0 +1,339 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.core.api.BiComponentConsumer;
+import it.unibo.donkeykong.core.api.ComponentConsumer;
+import it.unibo.donkeykong.core.api.Query;
+import it.unibo.donkeykong.core.api.TriComponentConsumer;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the Query interface. The query keeps the list of the archetypes matching its
+ * component classes, which the world extends whenever a new archetype is created.
+ */
+final class ArchetypeQuery implements Query {
+
+  /** Number of matched entities below which a parallel iteration stays on the calling thread. */
+  private static final int PARALLEL_THRESHOLD = 4096;
+
+  /**
+   * Number of rows visited by one task of a parallel iteration, small enough for the columns read
+   * by the task to stay in the cache of its core, large enough to amortize forking the task.
+   */
+  private static final int CHUNK_ROWS = 1024;
+
+  private final List<Class<? extends Component>> componentClasses;
+  private final BitSet[] masks;
+  private final ComponentTypeRegistry registry;
+  private final ForkJoinPool pool;
+  private final CommandBufferImpl commands;
+  private final Runnable onParallelIteration;
+  private Archetype[] archetypes;
+  private int archetypeCount;
+
+  /**
+   * Creates a query matching the given component classes.
+   *
+   * @param componentClasses the component classes an entity must have
+   * @param registry the registry providing the mask of each component class
+   * @param pool the pool running the parallel iterations
+   * @param commands the buffer receiving the commands recorded during parallel iterations
+   * @param onParallelIteration the action run on the calling thread before each iteration that is
+   *     split between the threads of the pool
+   */
+  ArchetypeQuery(
+      final List<Class<? extends Component>> componentClasses,
+      final ComponentTypeRegistry registry,
+      final ForkJoinPool pool,
+      final CommandBufferImpl commands,
+      final Runnable onParallelIteration) {
+    this.componentClasses = List.copyOf(componentClasses);
+    this.masks = this.componentClasses.stream().map(registry::maskOf).toArray(BitSet[]::new);
+    this.registry = registry;
+    this.pool = pool;
+    this.commands = commands;
+    this.onParallelIteration = onParallelIteration;
+    this.archetypes = new Archetype[4];
+    this.archetypeCount = 0;
+  }
+
+  /**
+   * Registers an archetype in this query if it matches the component classes.
+   *
+   * @param archetype a newly created archetype
+   */
+  void offer(final Archetype archetype) {
+    if (archetype.matches(this.masks)) {
+      if (this.archetypeCount == this.archetypes.length) {
+        this.archetypes = Arrays.copyOf(this.archetypes, this.archetypeCount * 2);
+      }
+      this.archetypes[this.archetypeCount++] = archetype;
+    }
+  }
+
+  @Override
+  public List<Class<? extends Component>> componentClasses() {
+    return this.componentClasses;
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (int i = 0; i < this.archetypeCount; i++) {
+      size += this.archetypes[i].size();
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (int i = 0; i < this.archetypeCount; i++) {
+      if (this.archetypes[i].size() > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void forEach(final Consumer<? super Entity> action) {
+    for (int i = 0; i < this.archetypeCount; i++) {
+      final Archetype archetype = this.archetypes[i];
+      for (int row = 0; row < archetype.size(); row++) {
+        action.accept(archetype.entityAt(row));
+      }
+    }
+  }
+
+  @Override
+  public void parallelForEach(final Consumer<? super Entity> action) {
+    if (size() < PARALLEL_THRESHOLD) {
+      forEach(action);
+      return;
+    }
+    this.onParallelIteration.run();
+    int chunkCount = 0;
+    for (int i = 0; i < this.archetypeCount; i++) {
+      chunkCount += (this.archetypes[i].size() + CHUNK_ROWS - 1) / CHUNK_ROWS;
+    }
+    final Archetype[] chunkArchetypes = new Archetype[chunkCount];
+    final int[] chunkRows = new int[chunkCount];
+    int chunk = 0;
+    for (int i = 0; i < this.archetypeCount; i++) {
+      for (int row = 0; row < this.archetypes[i].size(); row += CHUNK_ROWS) {
+        chunkArchetypes[chunk] = this.archetypes[i];
+        chunkRows[chunk++] = row;
+      }
+    }
+    final CommandBufferImpl[] deferred = new CommandBufferImpl[chunkCount];
+    this.pool.invoke(new ChunkTask(chunkArchetypes, chunkRows, deferred, action, 0, chunkCount));
+    for (final CommandBufferImpl buffer : deferred) {
+      buffer.drainTo(this.commands);
+    }
+  }
+
+  @Override
+  public void forEachChanged(
+      final Class<? extends Component> componentClass,
+      final int sinceTick,
+      final Consumer<? super Entity> action) {
+    final BitSet mask = this.registry.maskOf(componentClass);
+    for (int i = 0; i < this.archetypeCount; i++) {
+      final Archetype archetype = this.archetypes[i];
+      final int column = archetype.columnOf(mask);
+      for (int row = 0; column >= 0 && row < archetype.size(); row++) {
+        if (archetype.changedTick(row, column) - sinceTick > 0) {
+          action.accept(archetype.entityAt(row));
+        }
+      }
+    }
+  }
+
+  @Override
+  public void forEachAdded(
+      final Class<? extends Component> componentClass,
+      final int sinceTick,
+      final Consumer<? super Entity> action) {
+    final BitSet mask = this.registry.maskOf(componentClass);
+    for (int i = 0; i < this.archetypeCount; i++) {
+      final Archetype archetype = this.archetypes[i];
+      final int column = archetype.columnOf(mask);
+      for (int row = 0; column >= 0 && row < archetype.size(); row++) {
+        if (archetype.addedTick(row, column) - sinceTick > 0) {
+          action.accept(archetype.entityAt(row));
+        }
+      }
+    }
+  }
+
+  /**
+   * Performs an action on every matched entity, passing the component of the first class of the
+   * query.
+   *
+   * @param first the first component class of the query
+   * @param action the action to perform
+   * @param <A> the type of the first component
+   */
+  <A extends Component> void forEach(
+      final Class<A> first, final ComponentConsumer<? super A> action) {
+    for (int i = 0; i < this.archetypeCount; i++) {
+      final Archetype archetype = this.archetypes[i];
+      final int firstColumn = archetype.columnOf(this.masks[0]);
+      for (int row = 0; row < archetype.size(); row++) {
+        action.accept(archetype.entityAt(row), first.cast(archetype.get(row, firstColumn)));
+      }
+    }
+  }
+
+  /**
+   * Performs an action on every matched entity, passing the components of the first two classes
+   * of the query.
+   *
+   * @param first the first component class of the query
+   * @param second the second component class of the query
+   * @param action the action to perform
+   * @param <A> the type of the first component
+   * @param <B> the type of the second component
+   */
+  <A extends Component, B extends Component> void forEach(
+      final Class<A> first,
+      final Class<B> second,
+      final BiComponentConsumer<? super A, ? super B> action) {
+    for (int i = 0; i < this.archetypeCount; i++) {
+      final Archetype archetype = this.archetypes[i];
+      final int firstColumn = archetype.columnOf(this.masks[0]);
+      final int secondColumn = archetype.columnOf(this.masks[1]);
+      for (int row = 0; row < archetype.size(); row++) {
+        action.accept(
+            archetype.entityAt(row),
+            first.cast(archetype.get(row, firstColumn)),
+            second.cast(archetype.get(row, secondColumn)));
+      }
+    }
+  }
+
+  /**
+   * Performs an action on every matched entity, passing the components of the first three classes
+   * of the query.
+   *
+   * @param first the first component class of the query
+   * @param second the second component class of the query
+   * @param third the third component class of the query
+   * @param action the action to perform
+   * @param <A> the type of the first component
+   * @param <B> the type of the second component
+   * @param <C> the type of the third component
+   */
+  <A extends Component, B extends Component, C extends Component> void forEach(
+      final Class<A> first,
+      final Class<B> second,
+      final Class<C> third,
+      final TriComponentConsumer<? super A, ? super B, ? super C> action) {
+    for (int i = 0; i < this.archetypeCount; i++) {
+      final Archetype archetype = this.archetypes[i];
+      final int firstColumn = archetype.columnOf(this.masks[0]);
+      final int secondColumn = archetype.columnOf(this.masks[1]);
+      final int thirdColumn = archetype.columnOf(this.masks[2]);
+      for (int row = 0; row < archetype.size(); row++) {
+        action.accept(
+            archetype.entityAt(row),
+            first.cast(archetype.get(row, firstColumn)),
+            second.cast(archetype.get(row, secondColumn)),
+            third.cast(archetype.get(row, thirdColumn)));
+      }
+    }
+  }
+
+  /**
+   * Task visiting a range of chunks, splitting it in halves until a single chunk is left. Each
+   * chunk records its commands in its own buffer, so that they can be applied in the order of the
+   * chunks.
+   */
+  private static final class ChunkTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Archetype[] archetypes;
+    private final int[] rows;
+    private final CommandBufferImpl[] deferred;
+    private final Consumer<? super Entity> action;
+    private final int from;
+    private final int to;
+
+    ChunkTask(
+        final Archetype[] archetypes,
+        final int[] rows,
+        final CommandBufferImpl[] deferred,
+        final Consumer<? super Entity> action,
+        final int from,
+        final int to) {
+      this.archetypes = archetypes;
+      this.rows = rows;
+      this.deferred = deferred;
+      this.action = action;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.to - this.from > 1) {
+        final int middle = (this.from + this.to) >>> 1;
+        invokeAll(split(this.from, middle), split(middle, this.to));
+        return;
+      }
+      final Archetype archetype = this.archetypes[this.from];
+      final int end = Math.min(this.rows[this.from] + CHUNK_ROWS, archetype.size());
+      final CommandBufferImpl buffer = new CommandBufferImpl(0);
+      this.deferred[this.from] = buffer;
+      final CommandBufferImpl previous = CommandBufferImpl.redirectTo(buffer);
+      try {
+        for (int row = this.rows[this.from]; row < end; row++) {
+          this.action.accept(archetype.entityAt(row));
+        }
+      } finally {
+        CommandBufferImpl.redirectTo(previous);
+      }
+    }
+
+    private ChunkTask split(final int first, final int last) {
+      return new ChunkTask(this.archetypes, this.rows, this.deferred, this.action, first, last);
+    }
+  }
+
+  @Override
+  public Iterator<Entity> iterator() {
+    return new Iterator<>() {
+      private int archetypeIndex = 0;
+      private int row = 0;
+
+      @Override
+      public boolean hasNext() {
+        while (this.archetypeIndex < archetypeCount) {
+          if (this.row < archetypes[this.archetypeIndex].size()) {
+            return true;
+          }
+          this.archetypeIndex++;
+          this.row = 0;
+        }
+        return false;
+      }
+
+      @Override
+      public Entity next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return archetypes[this.archetypeIndex].entityAt(this.row++);
+      }
+    };
+  }
+}
@@ -0,0 +1,57 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+
+/** Storage of the components of one class inside an {@link Archetype}, addressed by row. */
+interface Column {
+
+  /**
+   * Reads the component stored on a row.
+   *
+   * @param row the row to read
+   * @return the component of the row
+   */
+  Component get(int row);
+
+  /**
+   * Stores a component on a row.
+   *
+   * @param row the row to write
+   * @param component the component to store
+   */
+  void set(int row, Component component);
+
+  /**
+   * Moves the component of a row onto another row of this column, clearing the source.
+   *
+   * @param from the row to move
+   * @param to the destination row
+   */
+  void move(int from, int to);
+
+  /**
+   * Copies the component of a row into a row of another column of the same class.
+   *
+   * @param row the row to copy
+   * @param target the destination column
+   * @param targetRow the destination row
+   */
+  default void copyTo(final int row, final Column target, final int targetRow) {
+    target.set(targetRow, get(row));
+  }
+
+  /**
+   * Copies this column, so that writing to either copy does not affect the other. Components are
+   * shared between the copies.
+   *
+   * @return a copy of this column
+   */
+  Column copy();
+
+  /**
+   * Makes room for at least the given number of rows.
+   *
+   * @param capacity the new capacity of the column
+   */
+  void grow(int capacity);
+}
@@ -0,0 +1,153 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.core.api.CommandBuffer;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.util.Arrays;
+
+/**
+ * Implementation of the CommandBuffer interface. Commands are kept in parallel arrays that are
+ * reused from one batch to the next, so recording a command does not allocate once the buffer has
+ * grown to the size of a typical batch.
+ *
+ * <p>A thread can redirect the commands it records, on any buffer, to a buffer of its own. This is
+ * how systems and chunks of entities updated at the same time record their changes separately,
+ * to apply them afterwards in the order a single thread would have recorded them.
+ */
+final class CommandBufferImpl implements CommandBuffer {
+
+  private static final int INITIAL_CAPACITY = 16;
+  private static final byte CREATE = 0;
+  private static final byte REMOVE_ENTITY = 1;
+  private static final byte ADD_COMPONENT = 2;
+  private static final byte REMOVE_COMPONENT = 3;
+  private static final ThreadLocal<CommandBufferImpl> REDIRECTION = new ThreadLocal<>();
+
+  private byte[] operations;
+  private Entity[] entities;
+  private Object[] arguments;
+  private int size;
+
+  /** Creates an empty buffer. */
+  CommandBufferImpl() {
+    this(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates an empty buffer with room for the given number of commands.
+   *
+   * @param capacity the initial capacity, which may be zero for a buffer that is rarely used
+   */
+  CommandBufferImpl(final int capacity) {
+    this.operations = new byte[capacity];
+    this.entities = new Entity[capacity];
+    this.arguments = new Object[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * Redirects the commands recorded by the current thread to a buffer.
+   *
+   * @param buffer the buffer receiving the commands, or {@code null} to stop redirecting
+   * @return the previous redirection of the thread, to be restored once done
+   */
+  static CommandBufferImpl redirectTo(final CommandBufferImpl buffer) {
+    final CommandBufferImpl previous = REDIRECTION.get();
+    if (buffer == null) {
+      REDIRECTION.remove();
+    } else {
+      REDIRECTION.set(buffer);
+    }
+    return previous;
+  }
+
+  @Override
+  public void createEntity(Component... components) {
+    record(CREATE, null, components.clone());
+  }
+
+  @Override
+  public void removeEntity(Entity entity) {
+    record(REMOVE_ENTITY, entity, null);
+  }
+
+  @Override
+  public void addComponent(Entity entity, Component component) {
+    record(ADD_COMPONENT, entity, component);
+  }
+
+  @Override
+  public void removeComponent(Entity entity, Component component) {
+    record(REMOVE_COMPONENT, entity, component);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Applies the recorded commands to a world in the order they were recorded, then empties the
+   * buffer.
+   *
+   * @param world the world to change
+   */
+  void flush(final World world) {
+    for (int i = 0; i < this.size; i++) {
+      final Entity entity = this.entities[i];
+      switch (this.operations[i]) {
+        case CREATE -> {
+          final Entity created = world.createEntity();
+          for (final Component component : (Component[]) this.arguments[i]) {
+            world.addComponentToEntity(created, component);
+          }
+        }
+        case REMOVE_ENTITY -> world.removeEntity(entity);
+        case ADD_COMPONENT -> world.addComponentToEntity(entity, (Component) this.arguments[i]);
+        case REMOVE_COMPONENT ->
+            world.removeComponentFromEntity(entity, (Component) this.arguments[i]);
+        default -> throw new IllegalStateException("Unknown command " + this.operations[i]);
+      }
+    }
+    clear();
+  }
+
+  /**
+   * Records the commands of this buffer in another one, keeping their order, then empties this
+   * buffer.
+   *
+   * @param target the buffer receiving the commands
+   */
+  void drainTo(final CommandBufferImpl target) {
+    for (int i = 0; i < this.size; i++) {
+      target.record(this.operations[i], this.entities[i], this.arguments[i]);
+    }
+    clear();
+  }
+
+  /** Discards the recorded commands. */
+  void clear() {
+    Arrays.fill(this.entities, 0, this.size, null);
+    Arrays.fill(this.arguments, 0, this.size, null);
+    this.size = 0;
+  }
+
+  private void record(final byte operation, final Entity entity, final Object argument) {
+    final CommandBufferImpl redirection = REDIRECTION.get();
+    if (redirection != null && redirection != this) {
+      redirection.record(operation, entity, argument);
+      return;
+    }
+    if (this.size == this.operations.length) {
+      final int capacity = Math.max(this.size * 2, INITIAL_CAPACITY);
+      this.operations = Arrays.copyOf(this.operations, capacity);
+      this.entities = Arrays.copyOf(this.entities, capacity);
+      this.arguments = Arrays.copyOf(this.arguments, capacity);
+    }
+    this.operations[this.size] = operation;
+    this.entities[this.size] = entity;
+    this.arguments[this.size] = argument;
+    this.size++;
+  }
+}
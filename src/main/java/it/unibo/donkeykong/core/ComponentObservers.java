@@ -0,0 +1,67 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.core.api.BiComponentConsumer;
+import it.unibo.donkeykong.core.api.ComponentConsumer;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.util.ArrayList;
+import java.util.List;
+
+/** The observers notified when a component of a given type is added, removed or replaced. */
+final class ComponentObservers {
+
+  /** Shared instance for the types nobody observes. */
+  static final ComponentObservers NONE = new ComponentObservers();
+
+  private final List<ComponentConsumer<Component>> addObservers;
+  private final List<ComponentConsumer<Component>> removeObservers;
+  private final List<BiComponentConsumer<Component, Component>> replaceObservers;
+
+  /** Creates an empty set of observers. */
+  ComponentObservers() {
+    this.addObservers = new ArrayList<>();
+    this.removeObservers = new ArrayList<>();
+    this.replaceObservers = new ArrayList<>();
+  }
+
+  void addOnAdd(final ComponentConsumer<Component> observer) {
+    this.addObservers.add(observer);
+  }
+
+  void addOnRemove(final ComponentConsumer<Component> observer) {
+    this.removeObservers.add(observer);
+  }
+
+  void addOnReplace(final BiComponentConsumer<Component, Component> observer) {
+    this.replaceObservers.add(observer);
+  }
+
+  /**
+   * Adds every observer of another set to this one.
+   *
+   * @param other the observers to add
+   */
+  void addAll(final ComponentObservers other) {
+    this.addObservers.addAll(other.addObservers);
+    this.removeObservers.addAll(other.removeObservers);
+    this.replaceObservers.addAll(other.replaceObservers);
+  }
+
+  void fireAdd(final Entity entity, final Component component) {
+    for (final ComponentConsumer<Component> observer : this.addObservers) {
+      observer.accept(entity, component);
+    }
+  }
+
+  void fireRemove(final Entity entity, final Component component) {
+    for (final ComponentConsumer<Component> observer : this.removeObservers) {
+      observer.accept(entity, component);
+    }
+  }
+
+  void fireReplace(final Entity entity, final Component previous, final Component component) {
+    for (final BiComponentConsumer<Component, Component> observer : this.replaceObservers) {
+      observer.accept(entity, previous, component);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry assigning a dense integer id to every concrete component class used in a world. For
+ * each class a component can be looked up by, including interfaces such as {@code Collider} or
+ * {@code EventComponent}, the registry maintains the mask of the concrete type ids satisfying it,
+ * so that matching a signature never needs reflection once the classes are known.
+ *
+ * <p>Lookups can be made from several threads at once. Registrations are serialized, but must not
+ * happen while another thread reads the masks, which holds because the world only registers a
+ * class when it stores a component of that class for the first time.
+ */
+final class ComponentTypeRegistry {
+
+  private final Map<Class<?>, Integer> idsByType;
+  private final List<Class<? extends Component>> typesById;
+  private final Map<Class<?>, BitSet> masksByClass;
+  private final BitSet mutableTypes;
+
+  /** Creates an empty registry. */
+  ComponentTypeRegistry() {
+    this.idsByType = new ConcurrentHashMap<>();
+    this.typesById = new ArrayList<>();
+    this.masksByClass = new ConcurrentHashMap<>();
+    this.mutableTypes = new BitSet();
+  }
+
+  /**
+   * Gets the id of a concrete component class, registering the class on first use. Registration
+   * resolves once every supertype of the class that is a component, and adds the new id to the
+   * mask of each of them.
+   *
+   * @param type the concrete component class
+   * @return the dense id of the class
+   */
+  int idOf(final Class<? extends Component> type) {
+    final Integer id = this.idsByType.get(type);
+    return id != null ? id : register(type);
+  }
+
+  /**
+   * Gets the concrete component class registered with the given id.
+   *
+   * @param id the id of the class
+   * @return the concrete component class
+   */
+  Class<? extends Component> typeOf(final int id) {
+    return this.typesById.get(id);
+  }
+
+  /**
+   * Checks whether the components of a concrete class have mutable state, which is the case when
+   * the class overrides {@link Component#copy()}.
+   *
+   * @param id the id of the class
+   * @return true if the components of the class must be copied to be kept in a snapshot
+   */
+  boolean isMutable(final int id) {
+    return this.mutableTypes.get(id);
+  }
+
+  /**
+   * Gets the mask of the concrete type ids that satisfy a component class. The mask is shared and
+   * kept up to date as new types are registered, so it must not be modified by callers. A class no
+   * registered type is assignable to gets an empty mask.
+   *
+   * @param componentClass a concrete component class or a component interface
+   * @return the mask of the ids of the concrete classes assignable to {@code componentClass}
+   */
+  BitSet maskOf(final Class<?> componentClass) {
+    return this.masksByClass.computeIfAbsent(componentClass, cls -> new BitSet());
+  }
+
+  private synchronized int register(final Class<? extends Component> type) {
+    final Integer registered = this.idsByType.get(type);
+    if (registered != null) {
+      return registered;
+    }
+    final int id = this.typesById.size();
+    this.typesById.add(type);
+    try {
+      if (type.getMethod("copy").getDeclaringClass() != Component.class) {
+        this.mutableTypes.set(id);
+      }
+    } catch (final NoSuchMethodException e) {
+      throw new IllegalStateException("Component without copy method: " + type.getName(), e);
+    }
+    final Deque<Class<?>> pending = new ArrayDeque<>(List.of(type));
+    final Set<Class<?>> visited = new HashSet<>();
+    while (!pending.isEmpty()) {
+      final Class<?> current = pending.pop();
+      if (Component.class.isAssignableFrom(current) && visited.add(current)) {
+        maskOf(current).set(id);
+        if (current.getSuperclass() != null) {
+          pending.push(current.getSuperclass());
+        }
+        pending.addAll(Arrays.asList(current.getInterfaces()));
+      }
+    }
+    this.idsByType.put(type, id);
+    return id;
+  }
+}
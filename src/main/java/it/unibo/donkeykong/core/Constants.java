@@ -6,6 +6,10 @@ public class Constants {
   public static final int WORLD_WIDTH = 896;
   public static final int WORLD_HEIGHT = 1024;
   public static final int BOTTOM_THRESHOLD = 950;
+  public static final int TICK_RATE = 60;
+  public static final float REFERENCE_STEP = 1f / TICK_RATE;
+  public static final int MAX_STEPS_PER_FRAME = 5;
+  public static final float ANIMATION_INTERVAL = 0.05f;
 
   public static final double GRAVITY = 9.81;
   public static final double JUMP_FACTOR = 22;
@@ -0,0 +1,92 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.core.api.World;
+
+/**
+ * Drives a {@link World} with a fixed time step. The real time elapsed between two frames is
+ * accumulated and consumed in steps of constant length, so the simulation runs at the same rate
+ * and gives the same results whatever the frame rate of the display. When the host falls behind,
+ * at most a given number of steps is run per frame and the time left over is dropped, so that a
+ * slow frame slows the game down instead of piling up steps for the next frames.
+ */
+public final class FixedStepLoop {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final World world;
+  private final long stepNanos;
+  private final float stepSeconds;
+  private final int maxStepsPerFrame;
+  private long accumulatedNanos;
+  private long lastTime;
+  private boolean started;
+
+  /**
+   * Constructor for FixedStepLoop.
+   *
+   * @param world the world to update
+   * @param tickRate the number of steps per second of simulated time
+   * @param maxStepsPerFrame the maximum number of steps run for a single frame
+   * @throws IllegalArgumentException if the tick rate or the maximum number of steps is not
+   *     positive
+   */
+  public FixedStepLoop(final World world, final int tickRate, final int maxStepsPerFrame) {
+    if (tickRate <= 0 || maxStepsPerFrame <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid tick rate " + tickRate + " or steps per frame " + maxStepsPerFrame);
+    }
+    this.world = world;
+    this.stepNanos = NANOS_PER_SECOND / tickRate;
+    this.stepSeconds = 1f / tickRate;
+    this.maxStepsPerFrame = maxStepsPerFrame;
+    this.accumulatedNanos = 0;
+    this.lastTime = 0;
+    this.started = false;
+  }
+
+  /**
+   * Runs the steps covering the time elapsed since the previous call. The first call only sets the
+   * origin of time, so that the first frame does not see the whole time since the epoch.
+   *
+   * @param now the current time, in nanoseconds
+   * @return the number of steps run
+   */
+  public int advanceTo(final long now) {
+    if (!this.started) {
+      this.started = true;
+      this.lastTime = now;
+      return 0;
+    }
+    this.accumulatedNanos += Math.max(now - this.lastTime, 0);
+    this.lastTime = now;
+    int steps = 0;
+    while (this.accumulatedNanos >= this.stepNanos && steps < this.maxStepsPerFrame) {
+      this.world.update(this.stepSeconds);
+      this.accumulatedNanos -= this.stepNanos;
+      steps++;
+    }
+    if (this.accumulatedNanos >= this.stepNanos) {
+      this.accumulatedNanos %= this.stepNanos;
+    }
+    return steps;
+  }
+
+  /**
+   * Gets how far the real time is between the last step and the next one, to interpolate the
+   * rendering between the previous and the current simulated state.
+   *
+   * @return the fraction of a step accumulated since the last step, in {@code [0, 1)}
+   */
+  public double alpha() {
+    return this.accumulatedNanos / (double) this.stepNanos;
+  }
+
+  /**
+   * Gets the simulated time of a step, which is passed to every update of the world.
+   *
+   * @return the duration of a step, in seconds
+   */
+  public float stepSeconds() {
+    return this.stepSeconds;
+  }
+}
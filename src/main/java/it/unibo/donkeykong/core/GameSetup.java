@@ -0,0 +1,73 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.entity.EntityFactoryImpl;
+import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
+import it.unibo.donkeykong.ecs.system.*;
+
+/**
+ * Setup shared by every way of running the game, so that the graphical and the headless games
+ * simulate the same world with the same systems.
+ */
+public final class GameSetup {
+
+  private GameSetup() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Creates the players, Donkey Kong, Pauline and the map in a world.
+   *
+   * @param world the world to populate
+   * @return the entity factory of the world, to create more entities later
+   */
+  public static EntityFactory populate(final World world) {
+    final EntityFactory entityFactory = new EntityFactoryImpl(world);
+    entityFactory.createFirstPlayer();
+    entityFactory.createSecondPlayer();
+    entityFactory.createDonkeyKong();
+    entityFactory.createPauline();
+    new MapFactory(entityFactory).generateMap();
+    return entityFactory;
+  }
+
+  /**
+   * Adds to a world the systems simulating the game, in the order they must run. Systems that only
+   * serve the display are left to the caller.
+   *
+   * <p>Updated with a pool, the systems still run one after another but for {@link GravitySystem}
+   * and {@link EventDispatchSystem}, which share a wave: each other system reads what the one
+   * before it writes, and the systems removing or creating entities write every component. The
+   * game rather gains from the parallel iterations within a system, such as those of {@link
+   * MovementSystem}.
+   *
+   * @param world the world to add the systems to
+   * @param entityFactory the entity factory used to spawn barrels
+   */
+  public static void addSimulationSystems(final World world, final EntityFactory entityFactory) {
+    addSimulationSystems(world, entityFactory, Constants.SPAWN_INTERVAL);
+  }
+
+  /**
+   * Adds to a world the systems simulating the game, spawning barrels at the given rate.
+   *
+   * @param world the world to add the systems to
+   * @param entityFactory the entity factory used to spawn barrels
+   * @param spawnInterval the time between two barrels, in seconds, or 0 for no barrel to spawn
+   */
+  public static void addSimulationSystems(
+      final World world, final EntityFactory entityFactory, final float spawnInterval) {
+    world.addSystem(new MovementSystem());
+    world.addSystem(new BoundariesSystem());
+    world.addSystem(new CollisionSystem());
+    world.addSystem(new PhysicsSystem());
+    world.addSystem(new HealthSystem());
+    if (spawnInterval > 0) {
+      world.addSystem(new SpawnSystem(entityFactory, spawnInterval));
+    }
+    world.addSystem(new ClimbingSystem());
+    world.addSystem(new InputSystem());
+    world.addSystem(new GravitySystem());
+    world.addSystem(new EventDispatchSystem());
+  }
+}
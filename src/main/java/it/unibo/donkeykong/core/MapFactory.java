@@ -23,8 +23,8 @@ public class MapFactory {
   }
 
   public void generateMap() {
-    platforms.forEach(entityFactory::createPlatform);
-    ladders.forEach(entityFactory::createLadder);
+    entityFactory.createPlatforms(platforms);
+    entityFactory.createLadders(ladders);
   }
 
   private void populatePositions() {
@@ -0,0 +1,61 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.util.Arrays;
+
+/** Column keeping the component instances as they are given. */
+final class ObjectColumn implements Column {
+
+  private Component[] components;
+
+  /**
+   * Creates an empty column.
+   *
+   * @param capacity the initial number of rows
+   */
+  ObjectColumn(final int capacity) {
+    this.components = new Component[capacity];
+  }
+
+  @Override
+  public Component get(final int row) {
+    return this.components[row];
+  }
+
+  @Override
+  public void set(final int row, final Component component) {
+    this.components[row] = component;
+  }
+
+  @Override
+  public void move(final int from, final int to) {
+    this.components[to] = this.components[from];
+    this.components[from] = null;
+  }
+
+  @Override
+  public ObjectColumn copy() {
+    final ObjectColumn copy = new ObjectColumn(0);
+    copy.components = this.components.clone();
+    return copy;
+  }
+
+  /**
+   * Copies this column together with its components, through {@link Component#copy()}.
+   *
+   * @param size the number of rows in use
+   * @return a copy of this column sharing no mutable component with it
+   */
+  ObjectColumn deepCopy(final int size) {
+    final ObjectColumn copy = new ObjectColumn(this.components.length);
+    for (int row = 0; row < size; row++) {
+      copy.components[row] = this.components[row].copy();
+    }
+    return copy;
+  }
+
+  @Override
+  public void grow(final int capacity) {
+    this.components = Arrays.copyOf(this.components, capacity);
+  }
+}
@@ -0,0 +1,118 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.HealthComponent;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.StateComponent;
+import it.unibo.donkeykong.ecs.component.StateComponent.Direction;
+import it.unibo.donkeykong.ecs.component.StateComponent.State;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size binary encoding of a component record inside a {@link PackedRows} buffer.
+ *
+ * @param type the class of the component
+ * @param size the number of bytes of the encoding
+ * @param writer encodes the component at a byte index
+ * @param reader decodes the component at a byte index
+ * @param <T> the type of the component
+ */
+record PackedCodec<T extends Component>(
+    Class<T> type, int size, Writer<T> writer, Reader<T> reader) {
+
+  private static final State[] STATES = State.values();
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  static final PackedCodec<PositionComponent> POSITION =
+      new PackedCodec<>(
+          PositionComponent.class,
+          2 * Double.BYTES,
+          (buffer, index, position) -> {
+            buffer.putDouble(index, position.x());
+            buffer.putDouble(index + Double.BYTES, position.y());
+          },
+          (buffer, index) ->
+              new PositionComponent(
+                  buffer.getDouble(index), buffer.getDouble(index + Double.BYTES)));
+
+  static final PackedCodec<VelocityComponent> VELOCITY =
+      new PackedCodec<>(
+          VelocityComponent.class,
+          2 * Double.BYTES,
+          (buffer, index, velocity) -> {
+            buffer.putDouble(index, velocity.dx());
+            buffer.putDouble(index + Double.BYTES, velocity.dy());
+          },
+          (buffer, index) ->
+              new VelocityComponent(
+                  buffer.getDouble(index), buffer.getDouble(index + Double.BYTES)));
+
+  static final PackedCodec<StateComponent> STATE =
+      new PackedCodec<>(
+          StateComponent.class,
+          2 * Byte.BYTES,
+          (buffer, index, state) -> {
+            buffer.put(index, (byte) state.state().ordinal());
+            buffer.put(index + Byte.BYTES, (byte) state.direction().ordinal());
+          },
+          (buffer, index) ->
+              new StateComponent(
+                  STATES[buffer.get(index)], DIRECTIONS[buffer.get(index + Byte.BYTES)]));
+
+  static final PackedCodec<HealthComponent> HEALTH =
+      new PackedCodec<>(
+          HealthComponent.class,
+          Integer.BYTES,
+          (buffer, index, health) -> buffer.putInt(index, health.livesCount()),
+          (buffer, index) -> new HealthComponent(buffer.getInt(index)));
+
+  /**
+   * Finds the codec of a concrete component class.
+   *
+   * @param type the concrete component class
+   * @return the codec of the class, or {@code null} if the class is not packed
+   */
+  static PackedCodec<?> of(final Class<?> type) {
+    if (type == PositionComponent.class) {
+      return POSITION;
+    } else if (type == VelocityComponent.class) {
+      return VELOCITY;
+    } else if (type == StateComponent.class) {
+      return STATE;
+    } else if (type == HealthComponent.class) {
+      return HEALTH;
+    }
+    return null;
+  }
+
+  /**
+   * Checks whether the encoding is made of two doubles, which can then be accessed in place as a
+   * {@link PairColumn}.
+   *
+   * @return true for positions and velocities
+   */
+  boolean isPair() {
+    return this == POSITION || this == VELOCITY;
+  }
+
+  /**
+   * Encodes a component at a byte index.
+   *
+   * @param <T> the type of the component
+   */
+  @FunctionalInterface
+  interface Writer<T> {
+    void write(ByteBuffer buffer, int index, T component);
+  }
+
+  /**
+   * Decodes a component at a byte index.
+   *
+   * @param <T> the type of the component
+   */
+  @FunctionalInterface
+  interface Reader<T> {
+    T read(ByteBuffer buffer, int index);
+  }
+}
@@ -0,0 +1,120 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+
+/**
+ * Column encoding its components in a {@link PackedRows} buffer, at a fixed offset of each row.
+ * Records are only built when a component is read through {@link #get}, which returns a copy.
+ *
+ * @param <T> the type of the component
+ */
+class PackedColumn<T extends Component> implements Column {
+
+  private final PackedRows rows;
+  private final int offset;
+  private final PackedCodec<T> codec;
+
+  /**
+   * Creates a view over a packed buffer.
+   *
+   * @param rows the buffer of the archetype
+   * @param offset the offset of the component in each row
+   * @param codec the encoding of the component
+   */
+  PackedColumn(final PackedRows rows, final int offset, final PackedCodec<T> codec) {
+    this.rows = rows;
+    this.offset = offset;
+    this.codec = codec;
+    rows.attach();
+  }
+
+  /**
+   * Creates the column storing a component class in a packed buffer.
+   *
+   * @param rows the buffer of the archetype
+   * @param offset the offset of the component in each row
+   * @param codec the encoding of the component
+   * @param <T> the type of the component
+   * @return a pair column for positions and velocities, a plain packed column otherwise
+   */
+  static <T extends Component> PackedColumn<T> of(
+      final PackedRows rows, final int offset, final PackedCodec<T> codec) {
+    return codec.isPair()
+        ? new PackedPairColumn<>(rows, offset, codec)
+        : new PackedColumn<>(rows, offset, codec);
+  }
+
+  PackedRows rows() {
+    return this.rows;
+  }
+
+  final int indexOf(final int row) {
+    return row * this.rows.stride() + this.offset;
+  }
+
+  @Override
+  public Component get(final int row) {
+    return this.codec.reader().read(this.rows.buffer(), indexOf(row));
+  }
+
+  @Override
+  public void set(final int row, final Component component) {
+    this.codec.writer().write(this.rows.buffer(), indexOf(row), this.codec.type().cast(component));
+  }
+
+  @Override
+  public void move(final int from, final int to) {
+    this.rows.buffer().put(indexOf(to), this.rows.buffer(), indexOf(from), this.codec.size());
+  }
+
+  @Override
+  public void copyTo(final int row, final Column target, final int targetRow) {
+    if (target instanceof PackedColumn<?> packed && packed.codec == this.codec) {
+      packed
+          .rows()
+          .buffer()
+          .put(packed.indexOf(targetRow), this.rows.buffer(), indexOf(row), this.codec.size());
+    } else {
+      target.set(targetRow, get(row));
+    }
+  }
+
+  @Override
+  public PackedColumn<T> copy() {
+    return of(this.rows.copyForView(), this.offset, this.codec);
+  }
+
+  @Override
+  public void grow(final int capacity) {
+    this.rows.grow(capacity);
+  }
+
+  /**
+   * Packed column of a two-double component, whose fields can be accessed in place.
+   *
+   * @param <T> the type of the component
+   */
+  private static final class PackedPairColumn<T extends Component> extends PackedColumn<T>
+      implements PairColumn {
+
+    PackedPairColumn(final PackedRows rows, final int offset, final PackedCodec<T> codec) {
+      super(rows, offset, codec);
+    }
+
+    @Override
+    public double first(final int row) {
+      return rows().buffer().getDouble(indexOf(row));
+    }
+
+    @Override
+    public double second(final int row) {
+      return rows().buffer().getDouble(indexOf(row) + Double.BYTES);
+    }
+
+    @Override
+    public void setPair(final int row, final double first, final double second) {
+      rows().buffer().putDouble(indexOf(row), first);
+      rows().buffer().putDouble(indexOf(row) + Double.BYTES, second);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package it.unibo.donkeykong.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Direct buffer holding the packed components of the rows of an archetype, one fixed-size record
+ * per row. Each packed component class is a {@link PackedColumn} viewing its own offset of the
+ * records. The bytes are little-endian whatever the platform, so they can be sent or stored as
+ * they are.
+ */
+final class PackedRows {
+
+  private final int stride;
+  private int views;
+  private ByteBuffer buffer;
+  private PackedRows pendingCopy;
+  private int pendingViews;
+
+  /**
+   * Creates a buffer for the given number of rows.
+   *
+   * @param stride the number of bytes of each row
+   * @param capacity the initial number of rows
+   */
+  PackedRows(final int stride, final int capacity) {
+    this.stride = stride;
+    this.views = 0;
+    this.buffer = allocate(stride * capacity);
+  }
+
+  int stride() {
+    return this.stride;
+  }
+
+  ByteBuffer buffer() {
+    return this.buffer;
+  }
+
+  /** Registers a new column viewing these rows. */
+  void attach() {
+    this.views++;
+  }
+
+  /**
+   * Makes room for at least the given number of rows. Every view asks for the same capacity, so
+   * only the first request reallocates.
+   *
+   * @param capacity the new number of rows
+   */
+  void grow(final int capacity) {
+    if (capacity * this.stride > this.buffer.capacity()) {
+      final ByteBuffer grown = allocate(capacity * this.stride);
+      grown.put(0, this.buffer, 0, this.buffer.capacity());
+      this.buffer = grown;
+    }
+  }
+
+  /**
+   * Gets the copy of these rows for one of their views. An archetype copies all its columns at
+   * once, so the first view asking creates the copy and the others attach to it.
+   *
+   * @return a copy of these rows, shared by the copies of all their views
+   */
+  PackedRows copyForView() {
+    if (this.pendingViews == 0) {
+      this.pendingCopy = new PackedRows(this.stride, 0);
+      this.pendingCopy.buffer = allocate(this.buffer.capacity());
+      this.pendingCopy.buffer.put(0, this.buffer, 0, this.buffer.capacity());
+      this.pendingViews = this.views;
+    }
+    final PackedRows copy = this.pendingCopy;
+    if (--this.pendingViews == 0) {
+      this.pendingCopy = null;
+    }
+    return copy;
+  }
+
+  private static ByteBuffer allocate(final int bytes) {
+    return ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+  }
+}
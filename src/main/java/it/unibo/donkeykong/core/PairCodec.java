@@ -0,0 +1,34 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Conversion between a two-double component record and its fields.
+ *
+ * @param create builds the record from its fields
+ * @param first reads the first field of the record
+ * @param second reads the second field of the record
+ * @param <T> the type of the component
+ */
+record PairCodec<T extends Component>(
+    Factory<T> create, ToDoubleFunction<T> first, ToDoubleFunction<T> second) {
+
+  static final PairCodec<PositionComponent> POSITION =
+      new PairCodec<>(PositionComponent::new, PositionComponent::x, PositionComponent::y);
+
+  static final PairCodec<VelocityComponent> VELOCITY =
+      new PairCodec<>(VelocityComponent::new, VelocityComponent::dx, VelocityComponent::dy);
+
+  /**
+   * Builds a component record from its two fields.
+   *
+   * @param <T> the type of the component
+   */
+  @FunctionalInterface
+  interface Factory<T> {
+    T create(double first, double second);
+  }
+}
@@ -0,0 +1,33 @@
+package it.unibo.donkeykong.core;
+
+/**
+ * Column of a component made of two doubles, such as a position or a velocity, whose fields can
+ * be read and written without going through the component record.
+ */
+interface PairColumn extends Column {
+
+  /**
+   * Reads the first field of a row.
+   *
+   * @param row the row to read
+   * @return the first field, such as {@code x} or {@code dx}
+   */
+  double first(int row);
+
+  /**
+   * Reads the second field of a row.
+   *
+   * @param row the row to read
+   * @return the second field, such as {@code y} or {@code dy}
+   */
+  double second(int row);
+
+  /**
+   * Writes both fields of a row.
+   *
+   * @param row the row to write
+   * @param first the first field
+   * @param second the second field
+   */
+  void setPair(int row, double first, double second);
+}
@@ -0,0 +1,73 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.util.Arrays;
+
+/**
+ * Pair column keeping the component records themselves: field writes replace the record of the
+ * row with a new one.
+ *
+ * @param <T> the type of the component
+ */
+final class RecordPairColumn<T extends Component> implements PairColumn {
+
+  private final PairCodec<T> codec;
+  private final Class<T> type;
+  private Component[] components;
+
+  /**
+   * Creates an empty column.
+   *
+   * @param codec the conversion between the record and its fields
+   * @param type the class of the component
+   * @param capacity the initial number of rows
+   */
+  RecordPairColumn(final PairCodec<T> codec, final Class<T> type, final int capacity) {
+    this.codec = codec;
+    this.type = type;
+    this.components = new Component[capacity];
+  }
+
+  @Override
+  public double first(final int row) {
+    return this.codec.first().applyAsDouble(this.type.cast(this.components[row]));
+  }
+
+  @Override
+  public double second(final int row) {
+    return this.codec.second().applyAsDouble(this.type.cast(this.components[row]));
+  }
+
+  @Override
+  public void setPair(final int row, final double first, final double second) {
+    this.components[row] = this.codec.create().create(first, second);
+  }
+
+  @Override
+  public Component get(final int row) {
+    return this.components[row];
+  }
+
+  @Override
+  public void set(final int row, final Component component) {
+    this.components[row] = component;
+  }
+
+  @Override
+  public void move(final int from, final int to) {
+    this.components[to] = this.components[from];
+    this.components[from] = null;
+  }
+
+  @Override
+  public RecordPairColumn<T> copy() {
+    final RecordPairColumn<T> copy = new RecordPairColumn<>(this.codec, this.type, 0);
+    copy.components = this.components.clone();
+    return copy;
+  }
+
+  @Override
+  public void grow(final int capacity) {
+    this.components = Arrays.copyOf(this.components, capacity);
+  }
+}
@@ -0,0 +1,88 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.util.Arrays;
+
+/**
+ * Pair column keeping each field in its own primitive array. Records are only built when a
+ * component is read through {@link #get}, which returns a copy of the row.
+ *
+ * @param <T> the type of the component
+ */
+final class SoaPairColumn<T extends Component> implements PairColumn {
+
+  private final PairCodec<T> codec;
+  private final Class<T> type;
+  private double[] firsts;
+  private double[] seconds;
+
+  /**
+   * Creates an empty column.
+   *
+   * @param codec the conversion between the record and its fields
+   * @param type the class of the component
+   * @param capacity the initial number of rows
+   */
+  SoaPairColumn(final PairCodec<T> codec, final Class<T> type, final int capacity) {
+    this.codec = codec;
+    this.type = type;
+    this.firsts = new double[capacity];
+    this.seconds = new double[capacity];
+  }
+
+  @Override
+  public double first(final int row) {
+    return this.firsts[row];
+  }
+
+  @Override
+  public double second(final int row) {
+    return this.seconds[row];
+  }
+
+  @Override
+  public void setPair(final int row, final double first, final double second) {
+    this.firsts[row] = first;
+    this.seconds[row] = second;
+  }
+
+  @Override
+  public Component get(final int row) {
+    return this.codec.create().create(this.firsts[row], this.seconds[row]);
+  }
+
+  @Override
+  public void set(final int row, final Component component) {
+    final T value = this.type.cast(component);
+    setPair(row, this.codec.first().applyAsDouble(value), this.codec.second().applyAsDouble(value));
+  }
+
+  @Override
+  public void move(final int from, final int to) {
+    this.firsts[to] = this.firsts[from];
+    this.seconds[to] = this.seconds[from];
+  }
+
+  @Override
+  public void copyTo(final int row, final Column target, final int targetRow) {
+    if (target instanceof PairColumn pair) {
+      pair.setPair(targetRow, this.firsts[row], this.seconds[row]);
+    } else {
+      target.set(targetRow, get(row));
+    }
+  }
+
+  @Override
+  public SoaPairColumn<T> copy() {
+    final SoaPairColumn<T> copy = new SoaPairColumn<>(this.codec, this.type, 0);
+    copy.firsts = this.firsts.clone();
+    copy.seconds = this.seconds.clone();
+    return copy;
+  }
+
+  @Override
+  public void grow(final int capacity) {
+    this.firsts = Arrays.copyOf(this.firsts, capacity);
+    this.seconds = Arrays.copyOf(this.seconds, capacity);
+  }
+}
@@ -0,0 +1,96 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.util.List;
+
+/** Memory layout used by a {@link WorldImpl} to store the components of its entities. */
+public enum StorageLayout {
+  /** Every component is stored as the instance given to the world. */
+  OBJECTS {
+    @Override
+    Column newColumn(final Class<? extends Component> type, final int capacity) {
+      if (type == PositionComponent.class) {
+        return new RecordPairColumn<>(PairCodec.POSITION, PositionComponent.class, capacity);
+      } else if (type == VelocityComponent.class) {
+        return new RecordPairColumn<>(PairCodec.VELOCITY, VelocityComponent.class, capacity);
+      }
+      return new ObjectColumn(capacity);
+    }
+  },
+  /**
+   * Positions and velocities are stored field by field in primitive arrays, so that systems can
+   * update them in place through a {@link it.unibo.donkeykong.core.api.MotionView} without
+   * allocating. Reading them as records returns a copy.
+   */
+  STRUCTURE_OF_ARRAYS {
+    @Override
+    Column newColumn(final Class<? extends Component> type, final int capacity) {
+      if (type == PositionComponent.class) {
+        return new SoaPairColumn<>(PairCodec.POSITION, PositionComponent.class, capacity);
+      } else if (type == VelocityComponent.class) {
+        return new SoaPairColumn<>(PairCodec.VELOCITY, VelocityComponent.class, capacity);
+      }
+      return new ObjectColumn(capacity);
+    }
+  },
+  /**
+   * Positions, velocities, states and healths are encoded together in a direct buffer, with a
+   * fixed number of bytes per entity, and updated there in place. Positions and velocities can be
+   * accessed in place through a {@link it.unibo.donkeykong.core.api.MotionView}; reading any of
+   * them as a record returns a copy. The other components are stored as objects.
+   */
+  PACKED {
+    @Override
+    Column newColumn(final Class<? extends Component> type, final int capacity) {
+      return OBJECTS.newColumn(type, capacity);
+    }
+
+    @Override
+    Column[] newColumns(final List<Class<? extends Component>> types, final int capacity) {
+      int stride = 0;
+      for (final Class<? extends Component> type : types) {
+        final PackedCodec<?> codec = PackedCodec.of(type);
+        stride += codec != null ? codec.size() : 0;
+      }
+      final PackedRows rows = stride > 0 ? new PackedRows(stride, capacity) : null;
+      final Column[] columns = new Column[types.size()];
+      int offset = 0;
+      for (int i = 0; i < columns.length; i++) {
+        final PackedCodec<?> codec = PackedCodec.of(types.get(i));
+        if (codec != null) {
+          columns[i] = PackedColumn.of(rows, offset, codec);
+          offset += codec.size();
+        } else {
+          columns[i] = newColumn(types.get(i), capacity);
+        }
+      }
+      return columns;
+    }
+  };
+
+  /**
+   * Creates the column storing a concrete component class.
+   *
+   * @param type the concrete component class
+   * @param capacity the initial number of rows
+   * @return an empty column
+   */
+  abstract Column newColumn(Class<? extends Component> type, int capacity);
+
+  /**
+   * Creates the columns of an archetype.
+   *
+   * @param types the concrete component classes of the archetype, in column order
+   * @param capacity the initial number of rows
+   * @return one empty column per class
+   */
+  Column[] newColumns(final List<Class<? extends Component>> types, final int capacity) {
+    final Column[] columns = new Column[types.size()];
+    for (int i = 0; i < columns.length; i++) {
+      columns[i] = newColumn(types.get(i), capacity);
+    }
+    return columns;
+  }
+}
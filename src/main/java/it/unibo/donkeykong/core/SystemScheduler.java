@@ -0,0 +1,257 @@
+package it.unibo.donkeykong.core;
+
+import it.unibo.donkeykong.core.api.SystemListener;
+import it.unibo.donkeykong.core.api.SystemRate;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Scheduler splitting the systems of a world into waves of systems that can be updated at the same
+ * time. Two systems conflict when one writes a component class the other reads or writes, or a
+ * class related to it, such as an interface it implements. A system depends on every system added
+ * before it that it conflicts with, and each wave holds consecutive systems none of which depends
+ * on another, so that updating the waves in order, and applying the commands of each wave in the
+ * order the systems were added, gives the same result as updating the systems one after another.
+ *
+ * <p>Systems with a {@link SystemRate} other than every tick, and disabled systems, keep their
+ * place in the waves but are skipped by the updates in which they are not due.
+ */
+final class SystemScheduler {
+
+  private final List<ScheduledSystem> systems;
+  private final ForkJoinPool pool;
+  private final List<CommandBufferImpl> commands;
+  private List<List<ScheduledSystem>> waves;
+
+  /** System of a world, with its rate and the time accumulated since its last update. */
+  static final class ScheduledSystem {
+
+    private final GameSystem system;
+    private final SystemRate rate;
+    private volatile boolean enabled;
+    private boolean due;
+    private int skippedUpdates;
+    private float elapsed;
+
+    private ScheduledSystem(final GameSystem system, final SystemRate rate) {
+      this.system = system;
+      this.rate = rate;
+      this.enabled = true;
+    }
+
+    /**
+     * Gets the scheduled system.
+     *
+     * @return the system
+     */
+    GameSystem system() {
+      return this.system;
+    }
+
+    /**
+     * Checks whether the system is due in the current update of the world.
+     *
+     * @return true if the system must be updated
+     */
+    boolean isDue() {
+      return this.due;
+    }
+
+    private void advance(final float deltaTime) {
+      if (!this.enabled) {
+        this.due = false;
+        this.skippedUpdates = 0;
+        this.elapsed = 0;
+        return;
+      }
+      this.skippedUpdates++;
+      this.elapsed += deltaTime;
+      this.due =
+          this.rate.interval() > 0
+              ? this.elapsed >= this.rate.interval()
+              : this.skippedUpdates >= this.rate.divisor();
+    }
+
+    /**
+     * Updates the system with the time accumulated since its previous update.
+     *
+     * @param world the world being updated
+     * @param listener the listener of the update, or {@code null} if it is not listened to
+     */
+    void update(final World world, final SystemListener listener) {
+      final float deltaTime = this.elapsed;
+      this.skippedUpdates = 0;
+      this.elapsed = 0;
+      final SystemUpdateEvent event = new SystemUpdateEvent();
+      event.begin();
+      if (listener == null) {
+        this.system.update(world, deltaTime);
+      } else {
+        listener.updateStarted(this.system);
+        try {
+          this.system.update(world, deltaTime);
+        } finally {
+          listener.updateEnded(this.system);
+        }
+      }
+      event.end();
+      if (event.shouldCommit()) {
+        event.system = this.system.getClass().getSimpleName();
+        event.deltaTime = deltaTime;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * Creates a scheduler with no systems.
+   *
+   * @param pool the pool running the systems of a wave, or {@code null} to update every system
+   *     alone on the calling thread
+   */
+  SystemScheduler(final ForkJoinPool pool) {
+    this.systems = new ArrayList<>();
+    this.pool = pool;
+    this.commands = new ArrayList<>();
+    this.waves = List.of();
+  }
+
+  void add(final GameSystem system, final SystemRate rate) {
+    this.systems.add(new ScheduledSystem(system, rate));
+    this.waves = null;
+  }
+
+  /**
+   * Enables or disables a system, or every registration of it if it was added more than once.
+   *
+   * @param system the system to enable or disable
+   * @param enabled whether the system should be updated
+   * @throws IllegalArgumentException if the system has not been added
+   */
+  void setEnabled(final GameSystem system, final boolean enabled) {
+    boolean found = false;
+    for (final ScheduledSystem scheduled : this.systems) {
+      if (scheduled.system == system) {
+        scheduled.enabled = enabled;
+        found = true;
+      }
+    }
+    if (!found) {
+      throw new IllegalArgumentException("System not added to the world: " + system);
+    }
+  }
+
+  /**
+   * Advances the systems by one update of the world, deciding which of them are due.
+   *
+   * @param deltaTime the time elapsed since the last update, in seconds
+   */
+  void advance(final float deltaTime) {
+    for (final ScheduledSystem scheduled : this.systems) {
+      scheduled.advance(deltaTime);
+    }
+  }
+
+  /**
+   * Gets the waves of the systems, in the order they must be updated. The waves are computed again
+   * after a system is added.
+   *
+   * @return the waves, each listing its systems in the order they were added
+   */
+  List<List<ScheduledSystem>> waves() {
+    if (this.waves == null) {
+      this.waves = new ArrayList<>();
+      final int[] waveOfSystem = new int[this.systems.size()];
+      for (int i = 0; i < this.systems.size(); i++) {
+        int wave = i == 0 ? 0 : waveOfSystem[i - 1];
+        for (int j = 0; j < i; j++) {
+          if (this.pool == null
+              || conflict(this.systems.get(j).system, this.systems.get(i).system)) {
+            wave = Math.max(wave, waveOfSystem[j] + 1);
+          }
+        }
+        waveOfSystem[i] = wave;
+        if (wave == this.waves.size()) {
+          this.waves.add(new ArrayList<>());
+        }
+        this.waves.get(wave).add(this.systems.get(i));
+      }
+    }
+    return this.waves;
+  }
+
+  /**
+   * Updates the due systems of a wave on the pool, each recording its structural changes in its
+   * own command buffer, then applies the buffers in the order the systems were added.
+   *
+   * @param world the world being updated
+   * @param wave the systems of the wave
+   * @param listener the listener of the updates, or {@code null} if they are not listened to
+   */
+  void updateInParallel(
+      final WorldImpl world, final List<ScheduledSystem> wave, final SystemListener listener) {
+    while (this.commands.size() < wave.size()) {
+      this.commands.add(new CommandBufferImpl());
+    }
+    final List<ForkJoinTask<?>> tasks = new ArrayList<>(wave.size());
+    for (int i = 0; i < wave.size(); i++) {
+      final ScheduledSystem system = wave.get(i);
+      if (!system.isDue()) {
+        continue;
+      }
+      final CommandBufferImpl buffer = this.commands.get(i);
+      tasks.add(
+          this.pool.submit(
+              () -> {
+                final CommandBufferImpl previous = CommandBufferImpl.redirectTo(buffer);
+                try {
+                  system.update(world, listener);
+                } finally {
+                  CommandBufferImpl.redirectTo(previous);
+                }
+              }));
+    }
+    RuntimeException failure = null;
+    for (final ForkJoinTask<?> task : tasks) {
+      try {
+        task.join();
+      } catch (final RuntimeException e) {
+        failure = failure == null ? e : failure;
+      }
+    }
+    for (int i = 0; i < wave.size(); i++) {
+      if (failure == null) {
+        this.commands.get(i).flush(world);
+      } else {
+        this.commands.get(i).clear();
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static boolean conflict(final GameSystem first, final GameSystem second) {
+    return overlap(first.writes(), second.reads())
+        || overlap(first.writes(), second.writes())
+        || overlap(first.reads(), second.writes());
+  }
+
+  private static boolean overlap(
+      final Set<Class<? extends Component>> first, final Set<Class<? extends Component>> second) {
+    for (final Class<? extends Component> a : first) {
+      for (final Class<? extends Component> b : second) {
+        if (a.isAssignableFrom(b) || b.isAssignableFrom(a)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,25 @@
+package it.unibo.donkeykong.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Flight Recorder event spanning the update of one system of a world. */
+@Name("it.unibo.donkeykong.SystemUpdate")
+@Label("System Update")
+@Category({"Donkey Kong", "World"})
+@Description("Update of one system of a world")
+@StackTrace(false)
+final class SystemUpdateEvent extends Event {
+
+  @Label("System")
+  @Description("Class of the updated system")
+  String system;
+
+  @Label("Delta Time")
+  @Description("Time passed to the system, in seconds, accumulated over the ticks it skipped")
+  float deltaTime;
+}
@@ -1,34 +1,106 @@
 package it.unibo.donkeykong.core;
 
+import it.unibo.donkeykong.core.SystemScheduler.ScheduledSystem;
+import it.unibo.donkeykong.core.api.BiComponentConsumer;
+import it.unibo.donkeykong.core.api.CommandBuffer;
+import it.unibo.donkeykong.core.api.ComponentConsumer;
+import it.unibo.donkeykong.core.api.MotionView;
+import it.unibo.donkeykong.core.api.Prefab;
+import it.unibo.donkeykong.core.api.Query;
+import it.unibo.donkeykong.core.api.SystemListener;
+import it.unibo.donkeykong.core.api.SystemRate;
+import it.unibo.donkeykong.core.api.TriComponentConsumer;
 import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.core.api.WorldSnapshot;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
 import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
-/** Implementation of the World interface. */
+/**
+ * Implementation of the World interface. Components are kept in {@link Archetype} tables, so that
+ * entities sharing the same component classes are stored together and queries only visit the
+ * tables that match. The {@link StorageLayout} given at construction decides how the columns of
+ * the tables are laid out in memory.
+ */
 public class WorldImpl implements World {
 
+  private static final int INITIAL_ENTITY_CAPACITY = 64;
+  private static final int INDEX_CHUNK_SHIFT = 6;
+  private static final int INDEX_CHUNK_SIZE = 1 << INDEX_CHUNK_SHIFT;
+
+  private int tick;
   private int nextEntityId;
-  private final Queue<Integer> availableIds;
-  private final Map<Entity, Set<Component>> componentsByEntity;
-  private final List<GameSystem> systems;
+  private int[] freeIds;
+  private int freeIdCount;
+  private int[] generationOfEntity;
+  private final StorageLayout layout;
+  private final ComponentTypeRegistry registry;
+  private final int positionTypeId;
+  private final int velocityTypeId;
+  private final MotionView motion;
+  private final Map<BitSet, Archetype> archetypes;
+  private final Archetype emptyArchetype;
+  private final Map<List<Class<? extends Component>>, ArchetypeQuery> queries;
+  private Archetype[] archetypeOfEntity;
+  private int[] rowOfEntity;
+  private final ForkJoinPool pool;
+  private final SystemScheduler scheduler;
+  private final CommandBufferImpl commands;
+  private final Map<Class<?>, ComponentObservers> observersByClass;
+  private volatile ComponentObservers[] observersByTypeId;
+  private final BitSet dirtyIndexChunks;
+  private SnapshotImpl lastSnapshot;
+  private volatile SystemListener systemListener;
+  private long createdEntities;
+  private long removedEntities;
+  private long updates;
 
   /** Implementation of the Entity interface. */
-  private record EntityImpl(int id, World world) implements Entity {
+  private record EntityImpl(int id, int generation, World world) implements Entity {
 
     @Override
     public int getId() {
       return this.id;
     }
 
+    @Override
+    public int getGeneration() {
+      return this.generation;
+    }
+
+    @Override
+    public long getHandle() {
+      return ((long) this.generation << Integer.SIZE) | (this.id & 0xFFFF_FFFFL);
+    }
+
+    @Override
+    public boolean isAlive() {
+      return this.world.isAlive(this);
+    }
+
     @Override
     public <T extends Component> Optional<T> getComponent(Class<T> componentClass) {
-      return this.world.getComponentsOfEntity(this).stream()
-          .filter(componentClass::isInstance)
-          .map(componentClass::cast)
-          .findFirst();
+      return Optional.ofNullable(this.world.getComponentOfEntity(this, componentClass));
+    }
+
+    @Override
+    public <T extends Component> T requireComponent(Class<T> componentClass) {
+      final T component = this.world.getComponentOfEntity(this, componentClass);
+      if (component == null) {
+        throw new NoSuchElementException(
+            "Entity " + this.id + " has no " + componentClass.getSimpleName());
+      }
+      return component;
+    }
+
+    @Override
+    public boolean hasComponent(Class<? extends Component> componentClass) {
+      return this.world.hasComponent(this, componentClass);
     }
 
     @Override
@@ -50,52 +122,299 @@ public class WorldImpl implements World {
 
     @Override
     public boolean equals(Object obj) {
-      return obj instanceof Entity entity && entity.getId() == this.id;
+      return obj instanceof Entity entity && entity.getHandle() == this.getHandle();
     }
 
     @Override
     public int hashCode() {
-      return Long.hashCode(id);
+      return Long.hashCode(this.getHandle());
     }
   }
 
-  /** Constructor for WorldImpl. */
+  /**
+   * Implementation of the WorldSnapshot interface. The entity index is split in chunks of {@value
+   * #INDEX_CHUNK_SIZE} ids, and the chunks nobody wrote since the previous snapshot are shared with
+   * it, as are the contents of the archetypes that were not written.
+   */
+  private record SnapshotImpl(
+      WorldImpl world,
+      int tick,
+      int nextEntityId,
+      int[] freeIds,
+      Archetype[][] archetypeChunks,
+      int[][] rowChunks,
+      int[][] generationChunks,
+      Map<Archetype, Archetype.Snapshot> archetypes)
+      implements WorldSnapshot {}
+
+  /** Motion view reading and writing the position and velocity columns in place. */
+  private final class Motion implements MotionView {
+
+    @Override
+    public double x(Entity entity) {
+      return pairColumnOf(entity, positionTypeId).first(rowOf(entity));
+    }
+
+    @Override
+    public double y(Entity entity) {
+      return pairColumnOf(entity, positionTypeId).second(rowOf(entity));
+    }
+
+    @Override
+    public void setPosition(Entity entity, double x, double y) {
+      writePairColumnOf(entity, positionTypeId).setPair(rowOf(entity), x, y);
+    }
+
+    @Override
+    public double dx(Entity entity) {
+      return pairColumnOf(entity, velocityTypeId).first(rowOf(entity));
+    }
+
+    @Override
+    public double dy(Entity entity) {
+      return pairColumnOf(entity, velocityTypeId).second(rowOf(entity));
+    }
+
+    @Override
+    public void setVelocity(Entity entity, double dx, double dy) {
+      writePairColumnOf(entity, velocityTypeId).setPair(rowOf(entity), dx, dy);
+    }
+  }
+
+  /** Constructor for WorldImpl, storing every component as an object. */
   public WorldImpl() {
+    this(StorageLayout.OBJECTS);
+  }
+
+  /**
+   * Constructor for WorldImpl, updating the systems one after another.
+   *
+   * @param layout the memory layout of the components
+   */
+  public WorldImpl(final StorageLayout layout) {
+    this(layout, null);
+  }
+
+  /**
+   * Constructor for WorldImpl, updating at the same time the systems that do not conflict on the
+   * component classes they declare. Such systems also share a tick, and the observers of the
+   * components they replace may be notified from any thread of the pool.
+   *
+   * @param layout the memory layout of the components
+   * @param pool the pool running the systems and the parallel iterations of queries, or {@code
+   *     null} to update the systems one after another and iterate on the common pool
+   */
+  public WorldImpl(final StorageLayout layout, final ForkJoinPool pool) {
+    this.tick = 0;
     this.nextEntityId = 0;
-    this.availableIds = new LinkedList<>();
-    this.componentsByEntity = new HashMap<>();
-    this.systems = new ArrayList<>();
+    this.freeIds = new int[INITIAL_ENTITY_CAPACITY];
+    this.freeIdCount = 0;
+    this.generationOfEntity = new int[INITIAL_ENTITY_CAPACITY];
+    this.layout = layout;
+    this.registry = new ComponentTypeRegistry();
+    this.positionTypeId = this.registry.idOf(PositionComponent.class);
+    this.velocityTypeId = this.registry.idOf(VelocityComponent.class);
+    this.motion = new Motion();
+    this.archetypes = new HashMap<>();
+    this.emptyArchetype = new Archetype(new BitSet(), this.registry, this.layout);
+    this.archetypes.put(this.emptyArchetype.signature(), this.emptyArchetype);
+    this.queries = new ConcurrentHashMap<>();
+    this.archetypeOfEntity = new Archetype[INITIAL_ENTITY_CAPACITY];
+    this.rowOfEntity = new int[INITIAL_ENTITY_CAPACITY];
+    this.pool = pool != null ? pool : ForkJoinPool.commonPool();
+    this.scheduler = new SystemScheduler(pool);
+    this.commands = new CommandBufferImpl();
+    this.observersByClass = new HashMap<>();
+    this.observersByTypeId = new ComponentObservers[0];
+    this.dirtyIndexChunks = new BitSet();
+    this.lastSnapshot = null;
+    this.systemListener = null;
+    this.createdEntities = 0;
+    this.removedEntities = 0;
+    this.updates = 0;
   }
 
   @Override
   public Entity createEntity() {
-    Entity entity =
-        new EntityImpl(availableIds.isEmpty() ? nextEntityId++ : availableIds.poll(), this);
-    this.componentsByEntity.put(entity, new HashSet<>());
+    final Entity entity = allocateEntity();
+    this.archetypeOfEntity[entity.getId()] = this.emptyArchetype;
+    this.rowOfEntity[entity.getId()] = this.emptyArchetype.append(entity);
     return entity;
   }
 
+  @Override
+  public Entity createEntity(Prefab prefab) {
+    return createEntities(prefab, 1).get(0);
+  }
+
+  @Override
+  public Entity createEntity(Prefab prefab, Component... overrides) {
+    return instantiate(prefab, 1, List.of(List.of(overrides))).get(0);
+  }
+
+  @Override
+  public List<Entity> createEntities(Prefab prefab, int count) {
+    return instantiate(prefab, count, null);
+  }
+
+  @Override
+  public List<Entity> createEntities(Prefab prefab, List<List<Component>> overrides) {
+    return instantiate(prefab, overrides.size(), overrides);
+  }
+
+  /**
+   * Creates entities with the components of a prefab, replacing some of them for each entity. The
+   * components of the prefab are copied through {@link Component#copy()}, while the overrides are
+   * stored as given, so that each entity is written once with its own components and observers
+   * never see the ones of the prefab it does not keep.
+   *
+   * @param prefab the template of the entities
+   * @param count the number of entities to create
+   * @param overrides the components replacing those of the prefab for each entity, or {@code null}
+   * @return the newly created entities, in creation order
+   * @throws IllegalArgumentException if an override has no component of its class in the prefab
+   */
+  private List<Entity> instantiate(
+      final Prefab prefab, final int count, final List<List<Component>> overrides) {
+    final List<Component> components = prefab.components();
+    final int[] typeIds = new int[components.size()];
+    final BitSet signature = new BitSet();
+    for (int i = 0; i < typeIds.length; i++) {
+      typeIds[i] = this.registry.idOf(components.get(i).getClass());
+      signature.set(typeIds[i]);
+    }
+    final Component[][] rows = new Component[count][];
+    for (int n = 0; overrides != null && n < count; n++) {
+      rows[n] = new Component[typeIds.length];
+      for (final Component override : overrides.get(n)) {
+        rows[n][slotOf(typeIds, override)] = override;
+      }
+    }
+    final Archetype archetype = archetypeFor(signature);
+    final int[] columns = new int[typeIds.length];
+    for (int i = 0; i < typeIds.length; i++) {
+      columns[i] = archetype.columnOfType(typeIds[i]);
+    }
+    archetype.reserve(archetype.size() + count);
+    final Component[] added = new Component[columns.length];
+    final List<Entity> entities = new ArrayList<>(count);
+    for (int n = 0; n < count; n++) {
+      final Entity entity = allocateEntity();
+      final int row = archetype.append(entity);
+      this.archetypeOfEntity[entity.getId()] = archetype;
+      this.rowOfEntity[entity.getId()] = row;
+      for (int i = 0; i < columns.length; i++) {
+        added[i] =
+            rows[n] != null && rows[n][i] != null ? rows[n][i] : components.get(i).copy();
+        archetype.set(row, columns[i], added[i]);
+        archetype.markAdded(row, columns[i], this.tick);
+      }
+      for (int i = 0; i < columns.length; i++) {
+        observersOf(typeIds[i]).fireAdd(entity, added[i]);
+      }
+      entities.add(entity);
+    }
+    return entities;
+  }
+
+  private int slotOf(final int[] typeIds, final Component override) {
+    final int typeId = this.registry.idOf(override.getClass());
+    for (int i = 0; i < typeIds.length; i++) {
+      if (typeIds[i] == typeId) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException(
+        "Prefab has no " + override.getClass().getSimpleName() + " to override");
+  }
+
   @Override
   public void addComponentToEntity(Entity entity, Component component) {
-    this.componentsByEntity.get(entity).add(component);
+    final Archetype archetype = archetypeOf(entity);
+    final int typeId = this.registry.idOf(component.getClass());
+    if (archetype == null || archetype.columnOfType(typeId) >= 0) {
+      return;
+    }
+    Archetype target = archetype.addEdge(typeId);
+    if (target == null) {
+      final BitSet signature = (BitSet) archetype.signature().clone();
+      signature.set(typeId);
+      target = archetypeFor(signature);
+      archetype.putAddEdge(typeId, target);
+    }
+    moveEntity(entity.getId(), target);
+    final int row = this.rowOfEntity[entity.getId()];
+    final int column = target.columnOfType(typeId);
+    target.set(row, column, component);
+    target.markAdded(row, column, this.tick);
+    observersOf(typeId).fireAdd(entity, component);
   }
 
   @Override
   public Set<Component> getComponentsOfEntity(Entity entity) {
-    return this.componentsByEntity.getOrDefault(entity, Set.of());
+    final Archetype archetype = archetypeOf(entity);
+    return archetype == null ? Set.of() : archetype.componentsAt(this.rowOfEntity[entity.getId()]);
+  }
+
+  @Override
+  public <T extends Component> T getComponentOfEntity(Entity entity, Class<T> componentClass) {
+    final Archetype archetype = archetypeOf(entity);
+    if (archetype == null) {
+      return null;
+    }
+    final int column = archetype.columnOf(this.registry.maskOf(componentClass));
+    return column < 0
+        ? null
+        : componentClass.cast(archetype.get(this.rowOfEntity[entity.getId()], column));
+  }
+
+  @Override
+  public boolean hasComponent(Entity entity, Class<? extends Component> componentClass) {
+    final Archetype archetype = archetypeOf(entity);
+    return archetype != null
+        && archetype.signature().intersects(this.registry.maskOf(componentClass));
   }
 
   @Override
   public void removeComponentFromEntity(Entity entity, Component component) {
-    this.componentsByEntity.get(entity).remove(component);
+    final Archetype archetype = archetypeOf(entity);
+    final int typeId = this.registry.idOf(component.getClass());
+    final int column = archetype == null ? -1 : archetype.columnOfType(typeId);
+    final Component removed =
+        column < 0 ? null : archetype.get(this.rowOfEntity[entity.getId()], column);
+    if (removed == null || !component.equals(removed)) {
+      return;
+    }
+    Archetype target = archetype.removeEdge(typeId);
+    if (target == null) {
+      final BitSet signature = (BitSet) archetype.signature().clone();
+      signature.clear(typeId);
+      target = archetypeFor(signature);
+      archetype.putRemoveEdge(typeId, target);
+    }
+    moveEntity(entity.getId(), target);
+    observersOf(typeId).fireRemove(entity, removed);
   }
 
   @Override
   public void updateComponentOnEntity(Entity entity, Component component) {
-    Set<Component> components = this.componentsByEntity.get(entity);
-    if (components != null) {
-      components.removeIf(c -> c.getClass() == component.getClass());
-      components.add(component);
+    final Archetype archetype = archetypeOf(entity);
+    if (archetype != null) {
+      final int typeId = this.registry.idOf(component.getClass());
+      final int column = archetype.columnOfType(typeId);
+      if (column >= 0) {
+        final int row = this.rowOfEntity[entity.getId()];
+        final ComponentObservers observers = observersOf(typeId);
+        final Component previous =
+            observers == ComponentObservers.NONE ? null : archetype.get(row, column);
+        archetype.set(row, column, component);
+        archetype.markChanged(row, column, this.tick);
+        if (previous != null) {
+          observers.fireReplace(entity, previous, component);
+        }
+      } else {
+        addComponentToEntity(entity, component);
+      }
     } else {
       System.err.println("Entity not found in world: " + entity.getId());
     }
@@ -103,30 +422,451 @@ public class WorldImpl implements World {
 
   @Override
   public void removeEntity(Entity entity) {
-    this.availableIds.add(entity.getId());
-    this.componentsByEntity.remove(entity);
+    final Archetype archetype = archetypeOf(entity);
+    if (archetype != null) {
+      final int id = entity.getId();
+      final List<Component> observed = observedComponentsAt(archetype, this.rowOfEntity[id]);
+      removeRow(archetype, this.rowOfEntity[id]);
+      touch(id);
+      this.archetypeOfEntity[id] = null;
+      this.generationOfEntity[id]++;
+      if (this.freeIdCount == this.freeIds.length) {
+        this.freeIds = Arrays.copyOf(this.freeIds, this.freeIdCount * 2);
+      }
+      this.freeIds[this.freeIdCount++] = id;
+      this.removedEntities++;
+      for (int i = 0; i < observed.size(); i++) {
+        final Component component = observed.get(i);
+        observersOf(this.registry.idOf(component.getClass())).fireRemove(entity, component);
+      }
+    }
   }
 
   @Override
   public Set<Entity> getEntitiesWithComponents(List<Class<? extends Component>> componentClass) {
-    return this.componentsByEntity.entrySet().stream()
-        .filter(
-            entry ->
-                componentClass.stream()
-                    .allMatch(cc -> entry.getValue().stream().anyMatch(cc::isInstance)))
-        .map(Map.Entry::getKey)
-        .collect(Collectors.toSet());
+    final Set<Entity> result = new HashSet<>();
+    query(componentClass).forEach(result::add);
+    return result;
+  }
+
+  @Override
+  public Query query(List<Class<? extends Component>> componentClasses) {
+    return archetypeQuery(componentClasses);
+  }
+
+  @Override
+  public <A extends Component> void forEach(Class<A> first, ComponentConsumer<? super A> action) {
+    archetypeQuery(List.of(first)).forEach(first, action);
+  }
+
+  @Override
+  public <A extends Component, B extends Component> void forEach(
+      Class<A> first, Class<B> second, BiComponentConsumer<? super A, ? super B> action) {
+    archetypeQuery(List.of(first, second)).forEach(first, second, action);
+  }
+
+  @Override
+  public <A extends Component, B extends Component, C extends Component> void forEach(
+      Class<A> first,
+      Class<B> second,
+      Class<C> third,
+      TriComponentConsumer<? super A, ? super B, ? super C> action) {
+    archetypeQuery(List.of(first, second, third)).forEach(first, second, third, action);
+  }
+
+  private ArchetypeQuery archetypeQuery(final List<Class<? extends Component>> componentClasses) {
+    final ArchetypeQuery found = this.queries.get(componentClasses);
+    final ArchetypeQuery query = found != null ? found : registerQuery(componentClasses);
+    final SystemListener listener = this.systemListener;
+    if (listener != null) {
+      listener.entitiesMatched(query.size());
+    }
+    return query;
+  }
+
+  private void notifyParallelIteration() {
+    final SystemListener listener = this.systemListener;
+    if (listener != null) {
+      listener.parallelIteration();
+    }
+  }
+
+  private synchronized ArchetypeQuery registerQuery(
+      final List<Class<? extends Component>> componentClasses) {
+    ArchetypeQuery query = this.queries.get(componentClasses);
+    if (query == null) {
+      query =
+          new ArchetypeQuery(
+              componentClasses,
+              this.registry,
+              this.pool,
+              this.commands,
+              this::notifyParallelIteration);
+      for (final Archetype archetype : this.archetypes.values()) {
+        query.offer(archetype);
+      }
+      this.queries.put(query.componentClasses(), query);
+    }
+    return query;
+  }
+
+  @Override
+  public boolean isAlive(Entity entity) {
+    return archetypeOf(entity) != null;
+  }
+
+  @Override
+  public <T extends Component> void onAdd(
+      Class<T> componentClass, ComponentConsumer<? super T> observer) {
+    observersFor(componentClass)
+        .addOnAdd((entity, component) -> observer.accept(entity, componentClass.cast(component)));
+  }
+
+  @Override
+  public <T extends Component> void onRemove(
+      Class<T> componentClass, ComponentConsumer<? super T> observer) {
+    observersFor(componentClass)
+        .addOnRemove(
+            (entity, component) -> observer.accept(entity, componentClass.cast(component)));
+  }
+
+  @Override
+  public <T extends Component> void onReplace(
+      Class<T> componentClass, BiComponentConsumer<? super T, ? super T> observer) {
+    observersFor(componentClass)
+        .addOnReplace(
+            (entity, previous, component) ->
+                observer.accept(
+                    entity, componentClass.cast(previous), componentClass.cast(component)));
+  }
+
+  @Override
+  public WorldSnapshot snapshot() {
+    final SnapshotImpl previous = this.lastSnapshot;
+    final int chunkCount = (this.nextEntityId + INDEX_CHUNK_SIZE - 1) >>> INDEX_CHUNK_SHIFT;
+    final Archetype[][] archetypeChunks = new Archetype[chunkCount][];
+    final int[][] rowChunks = new int[chunkCount][];
+    final int[][] generationChunks = new int[chunkCount][];
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      if (previous != null
+          && chunk < previous.archetypeChunks().length
+          && !this.dirtyIndexChunks.get(chunk)) {
+        archetypeChunks[chunk] = previous.archetypeChunks()[chunk];
+        rowChunks[chunk] = previous.rowChunks()[chunk];
+        generationChunks[chunk] = previous.generationChunks()[chunk];
+      } else {
+        final int from = chunk << INDEX_CHUNK_SHIFT;
+        final int to = from + INDEX_CHUNK_SIZE;
+        archetypeChunks[chunk] = Arrays.copyOfRange(this.archetypeOfEntity, from, to);
+        rowChunks[chunk] = Arrays.copyOfRange(this.rowOfEntity, from, to);
+        generationChunks[chunk] = Arrays.copyOfRange(this.generationOfEntity, from, to);
+      }
+    }
+    final Map<Archetype, Archetype.Snapshot> contents = new IdentityHashMap<>();
+    for (final Archetype archetype : this.archetypes.values()) {
+      contents.put(archetype, archetype.snapshot());
+    }
+    this.dirtyIndexChunks.clear();
+    this.lastSnapshot =
+        new SnapshotImpl(
+            this,
+            this.tick,
+            this.nextEntityId,
+            Arrays.copyOf(this.freeIds, this.freeIdCount),
+            archetypeChunks,
+            rowChunks,
+            generationChunks,
+            contents);
+    return this.lastSnapshot;
+  }
+
+  @Override
+  public void restore(WorldSnapshot snapshot) {
+    if (!(snapshot instanceof SnapshotImpl state) || state.world() != this) {
+      throw new IllegalArgumentException("Snapshot not taken from this world");
+    }
+    this.tick = state.tick();
+    this.nextEntityId = state.nextEntityId();
+    this.freeIdCount = state.freeIds().length;
+    this.freeIds =
+        Arrays.copyOf(state.freeIds(), Math.max(this.freeIdCount, INITIAL_ENTITY_CAPACITY));
+    final int chunkCount = state.archetypeChunks().length;
+    final int capacity = Math.max(this.archetypeOfEntity.length, chunkCount << INDEX_CHUNK_SHIFT);
+    this.archetypeOfEntity = new Archetype[capacity];
+    this.rowOfEntity = new int[capacity];
+    this.generationOfEntity = new int[capacity];
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      final int from = chunk << INDEX_CHUNK_SHIFT;
+      System.arraycopy(
+          state.archetypeChunks()[chunk], 0, this.archetypeOfEntity, from, INDEX_CHUNK_SIZE);
+      System.arraycopy(state.rowChunks()[chunk], 0, this.rowOfEntity, from, INDEX_CHUNK_SIZE);
+      System.arraycopy(
+          state.generationChunks()[chunk], 0, this.generationOfEntity, from, INDEX_CHUNK_SIZE);
+    }
+    for (final Archetype archetype : this.archetypes.values()) {
+      archetype.restore(state.archetypes().get(archetype));
+    }
+    this.dirtyIndexChunks.clear();
+    this.lastSnapshot = state;
+  }
+
+  @Override
+  public int currentTick() {
+    return this.tick;
+  }
+
+  @Override
+  public CommandBuffer commands() {
+    return this.commands;
+  }
+
+  @Override
+  public MotionView motion() {
+    return this.motion;
+  }
+
+  /**
+   * Looks up the archetype of an entity through the sparse index, which is addressed by entity id.
+   * A handle whose generation is older than the one of its id refers to a removed entity.
+   *
+   * @param entity the entity to look up
+   * @return the archetype holding the entity, or {@code null} if the entity is not in the world
+   */
+  private Archetype archetypeOf(final Entity entity) {
+    final int id = entity.getId();
+    return id >= 0
+            && id < this.archetypeOfEntity.length
+            && this.generationOfEntity[id] == entity.getGeneration()
+        ? this.archetypeOfEntity[id]
+        : null;
+  }
+
+  /**
+   * Allocates the id of a new entity, recycling a removed one if any, and makes room for it in the
+   * entity index. The caller places the entity in an archetype.
+   *
+   * @return the new entity
+   */
+  private Entity allocateEntity() {
+    final int id = this.freeIdCount > 0 ? this.freeIds[--this.freeIdCount] : this.nextEntityId++;
+    if (id >= this.archetypeOfEntity.length) {
+      final int capacity = Math.max(this.archetypeOfEntity.length * 2, id + 1);
+      this.archetypeOfEntity = Arrays.copyOf(this.archetypeOfEntity, capacity);
+      this.rowOfEntity = Arrays.copyOf(this.rowOfEntity, capacity);
+      this.generationOfEntity = Arrays.copyOf(this.generationOfEntity, capacity);
+    }
+    touch(id);
+    this.createdEntities++;
+    return new EntityImpl(id, this.generationOfEntity[id], this);
+  }
+
+  private Archetype archetypeFor(final BitSet signature) {
+    Archetype archetype = this.archetypes.get(signature);
+    if (archetype == null) {
+      archetype = new Archetype(signature, this.registry, this.layout);
+      this.archetypes.put(archetype.signature(), archetype);
+      for (final ArchetypeQuery query : this.queries.values()) {
+        query.offer(archetype);
+      }
+    }
+    return archetype;
+  }
+
+  private synchronized ComponentObservers observersFor(final Class<?> componentClass) {
+    this.observersByTypeId = new ComponentObservers[0];
+    return this.observersByClass.computeIfAbsent(componentClass, cls -> new ComponentObservers());
+  }
+
+  /**
+   * Gets the observers of a concrete component class, merging those registered on the class and on
+   * its supertypes. The merge is done once per class and cached until a new observer is registered,
+   * so a class nobody observes only costs an array lookup. The cache is copied on write, so that
+   * systems updated at the same time can read it.
+   *
+   * @param typeId the id of the concrete component class
+   * @return the observers of the class, or {@link ComponentObservers#NONE}
+   */
+  private ComponentObservers observersOf(final int typeId) {
+    final ComponentObservers[] cache = this.observersByTypeId;
+    final ComponentObservers observers = typeId < cache.length ? cache[typeId] : null;
+    return observers != null ? observers : mergeObservers(typeId);
+  }
+
+  private synchronized ComponentObservers mergeObservers(final int typeId) {
+    final ComponentObservers[] cache =
+        Arrays.copyOf(this.observersByTypeId, Math.max(this.observersByTypeId.length, typeId + 1));
+    ComponentObservers observers = cache[typeId];
+    if (observers == null) {
+      final Class<? extends Component> type = this.registry.typeOf(typeId);
+      observers = ComponentObservers.NONE;
+      for (final Map.Entry<Class<?>, ComponentObservers> entry : this.observersByClass.entrySet()) {
+        if (entry.getKey().isAssignableFrom(type)) {
+          if (observers == ComponentObservers.NONE) {
+            observers = new ComponentObservers();
+          }
+          observers.addAll(entry.getValue());
+        }
+      }
+      cache[typeId] = observers;
+      this.observersByTypeId = cache;
+    }
+    return observers;
+  }
+
+  /**
+   * Collects the components of a row that have observers, before the row is removed.
+   *
+   * @param archetype the archetype of the row
+   * @param row the row about to be removed
+   * @return the observed components of the row
+   */
+  private List<Component> observedComponentsAt(final Archetype archetype, final int row) {
+    if (this.observersByClass.isEmpty()) {
+      return List.of();
+    }
+    final List<Component> observed = new ArrayList<>();
+    final BitSet signature = archetype.signature();
+    for (int id = signature.nextSetBit(0); id >= 0; id = signature.nextSetBit(id + 1)) {
+      if (observersOf(id) != ComponentObservers.NONE) {
+        observed.add(archetype.get(row, archetype.columnOfType(id)));
+      }
+    }
+    return observed;
+  }
+
+  /**
+   * Finds the column holding the two-double component of an entity.
+   *
+   * @param entity the entity
+   * @param typeId the id of {@link PositionComponent} or {@link VelocityComponent}
+   * @return the column of the component, read at {@link #rowOf}
+   * @throws NoSuchElementException if the entity does not have the component
+   */
+  private PairColumn pairColumnOf(final Entity entity, final int typeId) {
+    final Archetype archetype = archetypeOf(entity);
+    final int column = archetype == null ? -1 : archetype.columnOfType(typeId);
+    if (column < 0) {
+      throw new NoSuchElementException(
+          "Entity " + entity.getId() + " has no " + this.registry.typeOf(typeId).getSimpleName());
+    }
+    return archetype.pairColumn(column);
+  }
+
+  /**
+   * Finds the column holding the two-double component of an entity, recording that the component
+   * is about to be written.
+   *
+   * @param entity the entity
+   * @param typeId the id of {@link PositionComponent} or {@link VelocityComponent}
+   * @return the column of the component, written at {@link #rowOf}
+   * @throws NoSuchElementException if the entity does not have the component
+   */
+  private PairColumn writePairColumnOf(final Entity entity, final int typeId) {
+    pairColumnOf(entity, typeId);
+    final Archetype archetype = this.archetypeOfEntity[entity.getId()];
+    final int column = archetype.columnOfType(typeId);
+    archetype.markChanged(rowOf(entity), column, this.tick);
+    return archetype.pairColumn(column);
+  }
+
+  private int rowOf(final Entity entity) {
+    return this.rowOfEntity[entity.getId()];
+  }
+
+  private void moveEntity(final int id, final Archetype target) {
+    final Archetype source = this.archetypeOfEntity[id];
+    final int sourceRow = this.rowOfEntity[id];
+    touch(id);
+    this.rowOfEntity[id] = source.copyRowTo(sourceRow, target);
+    this.archetypeOfEntity[id] = target;
+    removeRow(source, sourceRow);
+  }
+
+  private void removeRow(final Archetype archetype, final int row) {
+    final Entity moved = archetype.swapRemove(row);
+    if (moved != null) {
+      touch(moved.getId());
+      this.rowOfEntity[moved.getId()] = row;
+    }
+  }
+
+  /**
+   * Records that the index entry of an entity is about to change, so that the next snapshot copies
+   * its chunk.
+   *
+   * @param id the id of the entity
+   */
+  private void touch(final int id) {
+    this.dirtyIndexChunks.set(id >>> INDEX_CHUNK_SHIFT);
   }
 
   @Override
   public void addSystem(GameSystem system) {
-    this.systems.add(system);
+    addSystem(system, SystemRate.everyTick());
+  }
+
+  @Override
+  public void addSystem(final GameSystem system, final SystemRate rate) {
+    this.scheduler.add(system, rate);
+  }
+
+  @Override
+  public void setSystemEnabled(final GameSystem system, final boolean enabled) {
+    this.scheduler.setEnabled(system, enabled);
+  }
+
+  /**
+   * Starts or stops notifying a listener of the system updates of this world. This may be called
+   * from any thread, and takes effect from the next update of the world.
+   *
+   * @param listener the listener of the updates, or {@code null} to stop notifying them
+   */
+  public void setSystemListener(final SystemListener listener) {
+    this.systemListener = listener;
   }
 
   @Override
   public void update(float deltaTime) {
-    for (final var system : this.systems) {
-      system.update(this, deltaTime);
+    final WorldTickEvent event = new WorldTickEvent();
+    event.begin();
+    final long created = this.createdEntities;
+    final long removed = this.removedEntities;
+    updateSystems(deltaTime);
+    this.updates++;
+    event.end();
+    if (event.shouldCommit()) {
+      event.tick = this.updates;
+      event.deltaTime = deltaTime;
+      event.createdEntities = this.createdEntities - created;
+      event.removedEntities = this.removedEntities - removed;
+      event.entities = this.nextEntityId - this.freeIdCount;
+      event.commit();
+    }
+  }
+
+  private void updateSystems(final float deltaTime) {
+    final SystemListener listener = this.systemListener;
+    this.commands.flush(this);
+    this.scheduler.advance(deltaTime);
+    for (final List<ScheduledSystem> wave : this.scheduler.waves()) {
+      ScheduledSystem single = null;
+      int due = 0;
+      for (final ScheduledSystem system : wave) {
+        if (system.isDue()) {
+          single = system;
+          due++;
+        }
+      }
+      if (due == 0) {
+        continue;
+      }
+      this.tick++;
+      if (due == 1) {
+        single.update(this, listener);
+        this.commands.flush(this);
+      } else {
+        this.scheduler.updateInParallel(this, wave, listener);
+      }
     }
   }
 }
@@ -0,0 +1,38 @@
+package it.unibo.donkeykong.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one update of a world, with the entities created and removed
+ * while it ran.
+ */
+@Name("it.unibo.donkeykong.WorldTick")
+@Label("World Tick")
+@Category({"Donkey Kong", "World"})
+@Description("One update of a world, running every due system")
+@StackTrace(false)
+final class WorldTickEvent extends Event {
+
+  @Label("Tick")
+  @Description("Number of updates of the world, this one included")
+  long tick;
+
+  @Label("Delta Time")
+  @Description("Time simulated by the update, in seconds")
+  float deltaTime;
+
+  @Label("Created Entities")
+  long createdEntities;
+
+  @Label("Removed Entities")
+  long removedEntities;
+
+  @Label("Entities")
+  @Description("Entities alive at the end of the update")
+  int entities;
+}
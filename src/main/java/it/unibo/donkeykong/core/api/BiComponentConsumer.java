@@ -0,0 +1,23 @@
+package it.unibo.donkeykong.core.api;
+
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+
+/**
+ * Action performed by {@link World#forEach(Class, Class, BiComponentConsumer)} on each entity
+ * having two component classes, receiving the components straight from the storage of the world.
+ *
+ * @param <A> the type of the first component
+ * @param <B> the type of the second component
+ */
+@FunctionalInterface
+public interface BiComponentConsumer<A, B> {
+
+  /**
+   * Performs this action on an entity.
+   *
+   * @param entity the entity
+   * @param first the first component of the entity
+   * @param second the second component of the entity
+   */
+  void accept(Entity entity, A first, B second);
+}
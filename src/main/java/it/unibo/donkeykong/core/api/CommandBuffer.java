@@ -0,0 +1,51 @@
+package it.unibo.donkeykong.core.api;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+
+/**
+ * Records structural changes to a {@link World} so that they can be made while a {@link Query} is
+ * being iterated. The recorded commands are applied in order, in one batch, when the system that
+ * recorded them returns from its update.
+ *
+ * <p>Commands targeting an entity that has been removed by the time they are applied are ignored.
+ */
+public interface CommandBuffer {
+
+  /**
+   * Records the creation of a new {@link Entity} with the given components.
+   *
+   * @param components the components of the new entity
+   */
+  void createEntity(Component... components);
+
+  /**
+   * Records the removal of an {@link Entity} from the world.
+   *
+   * @param entity the entity to remove
+   */
+  void removeEntity(Entity entity);
+
+  /**
+   * Records the addition of a {@link Component} to an {@link Entity}.
+   *
+   * @param entity the entity to which the component will be added
+   * @param component the component to add
+   */
+  void addComponent(Entity entity, Component component);
+
+  /**
+   * Records the removal of a {@link Component} from an {@link Entity}.
+   *
+   * @param entity the entity from which the component will be removed
+   * @param component the component to remove
+   */
+  void removeComponent(Entity entity, Component component);
+
+  /**
+   * Checks whether no command is waiting to be applied.
+   *
+   * @return true if the buffer holds no command
+   */
+  boolean isEmpty();
+}
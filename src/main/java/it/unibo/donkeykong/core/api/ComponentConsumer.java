@@ -0,0 +1,21 @@
+package it.unibo.donkeykong.core.api;
+
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+
+/**
+ * Action performed by {@link World#forEach(Class, ComponentConsumer)} on each entity having one
+ * component class, receiving the component straight from the storage of the world.
+ *
+ * @param <A> the type of the component
+ */
+@FunctionalInterface
+public interface ComponentConsumer<A> {
+
+  /**
+   * Performs this action on an entity.
+   *
+   * @param entity the entity
+   * @param first the component of the entity
+   */
+  void accept(Entity entity, A first);
+}
@@ -0,0 +1,66 @@
+package it.unibo.donkeykong.core.api;
+
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+
+/**
+ * Mutable view over the {@link PositionComponent} and {@link VelocityComponent} of the entities of
+ * a {@link World}. Fields are read and written in place, so systems integrating motion do not need
+ * to build a new record for every entity on every update.
+ *
+ * <p>Every method throws {@link java.util.NoSuchElementException} if the entity does not have the
+ * component it accesses.
+ */
+public interface MotionView {
+
+  /**
+   * Reads the horizontal position of an entity.
+   *
+   * @param entity the entity
+   * @return the x-coordinate
+   */
+  double x(Entity entity);
+
+  /**
+   * Reads the vertical position of an entity.
+   *
+   * @param entity the entity
+   * @return the y-coordinate
+   */
+  double y(Entity entity);
+
+  /**
+   * Writes the position of an entity.
+   *
+   * @param entity the entity
+   * @param x the new x-coordinate
+   * @param y the new y-coordinate
+   */
+  void setPosition(Entity entity, double x, double y);
+
+  /**
+   * Reads the horizontal velocity of an entity.
+   *
+   * @param entity the entity
+   * @return the change in x-coordinate
+   */
+  double dx(Entity entity);
+
+  /**
+   * Reads the vertical velocity of an entity.
+   *
+   * @param entity the entity
+   * @return the change in y-coordinate
+   */
+  double dy(Entity entity);
+
+  /**
+   * Writes the velocity of an entity.
+   *
+   * @param entity the entity
+   * @param dx the new change in x-coordinate
+   * @param dy the new change in y-coordinate
+   */
+  void setVelocity(Entity entity, double dx, double dy);
+}
@@ -0,0 +1,54 @@
+package it.unibo.donkeykong.core.api;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Template of the components of an entity, registered once and instantiated through {@link
+ * World#createEntity(Prefab)} or in bulk through {@link World#createEntities(Prefab, int)}.
+ * Immutable components are shared by every instance, while those with mutable state are copied for
+ * each of them through {@link Component#copy()}. The components that differ between instances,
+ * such as their position, are given as overrides through {@link World#createEntity(Prefab,
+ * Component...)} and {@link World#createEntities(Prefab, List)}.
+ *
+ * @param components the components of the template, at most one per class
+ */
+public record Prefab(List<Component> components) {
+
+  /**
+   * Constructor for Prefab. When several components share a class, the last one is kept.
+   *
+   * @param components the components of the template
+   */
+  public Prefab {
+    final List<Component> distinct = new ArrayList<>(components.size());
+    for (final Component component : components) {
+      distinct.removeIf(other -> other.getClass() == component.getClass());
+      distinct.add(component);
+    }
+    components = List.copyOf(distinct);
+  }
+
+  /**
+   * Creates a template from the given components.
+   *
+   * @param components the components of the template
+   * @return the new template
+   */
+  public static Prefab of(final Component... components) {
+    return new Prefab(List.of(components));
+  }
+
+  /**
+   * Derives a template that has the given component in place of the one of the same class.
+   *
+   * @param component the component to add or replace
+   * @return the new template, this one being left unchanged
+   */
+  public Prefab with(final Component component) {
+    final List<Component> derived = new ArrayList<>(this.components);
+    derived.add(component);
+    return new Prefab(derived);
+  }
+}
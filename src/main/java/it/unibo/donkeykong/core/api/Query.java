@@ -0,0 +1,88 @@
+package it.unibo.donkeykong.core.api;
+
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A live view over the entities of a {@link World} having all the specified component classes. The
+ * world keeps the view up to date as components are added and removed, so a query can be kept and
+ * iterated on every update without being rebuilt.
+ *
+ * <p>The structure of the world must not change while a query is being iterated: components can be
+ * replaced, but adding or removing components and entities must be recorded in the {@link
+ * CommandBuffer} of the world, which applies them once the iteration is over.
+ */
+public interface Query extends Iterable<Entity> {
+
+  /**
+   * Gets the component classes an entity must have to be matched by this query.
+   *
+   * @return the component classes of the query
+   */
+  List<Class<? extends Component>> componentClasses();
+
+  /**
+   * Counts the entities currently matched by this query.
+   *
+   * @return the number of matched entities
+   */
+  int size();
+
+  /**
+   * Checks whether no entity is currently matched by this query.
+   *
+   * @return true if the query has no match
+   */
+  boolean isEmpty();
+
+  /**
+   * Performs the given action on every matched entity, without allocating any intermediate
+   * collection.
+   *
+   * @param action the action to perform
+   */
+  @Override
+  void forEach(Consumer<? super Entity> action);
+
+  /**
+   * Performs the given action on every matched entity, splitting the entities in chunks visited at
+   * the same time by the threads of a fork-join pool. Queries matching few entities are iterated on
+   * the calling thread instead, where forking would cost more than it saves.
+   *
+   * <p>The action may read any entity and write the components of the entity it is given, but
+   * nothing else. The commands it records are applied after the iteration, in the order a
+   * sequential iteration would have recorded them.
+   *
+   * @param action the action to perform, which must be safe to call from several threads at once
+   */
+  void parallelForEach(Consumer<? super Entity> action);
+
+  /**
+   * Performs the given action on every matched entity whose component of the given class was
+   * written after a tick, as given by {@link World#currentTick()}. Writes made through the world,
+   * including adding the component, count as changes; mutations of a mutable component that do not
+   * go through the world do not.
+   *
+   * <p>Ticks are compared modulo 2<sup>32</sup>, so {@code sinceTick} must be within about two
+   * billion ticks of the current one.
+   *
+   * @param componentClass the component class to check for changes
+   * @param sinceTick the last tick already processed by the caller
+   * @param action the action to perform
+   */
+  void forEachChanged(
+      Class<? extends Component> componentClass, int sinceTick, Consumer<? super Entity> action);
+
+  /**
+   * Performs the given action on every matched entity whose component of the given class was added
+   * after a tick, as {@link #forEachChanged} does for writes.
+   *
+   * @param componentClass the component class to check for additions
+   * @param sinceTick the last tick already processed by the caller
+   * @param action the action to perform
+   */
+  void forEachAdded(
+      Class<? extends Component> componentClass, int sinceTick, Consumer<? super Entity> action);
+}
@@ -0,0 +1,40 @@
+package it.unibo.donkeykong.core.api;
+
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+
+/**
+ * Listener of the system updates of a world, such as the metrics measuring them. Every call about
+ * an update is made on the thread running it, so an implementation may keep the state of the
+ * updates in progress per thread. The systems of a parallel wave are updated at the same time on
+ * different threads, and a thread waiting for a parallel iteration may start the update of another
+ * system before the one it is running ends.
+ */
+public interface SystemListener {
+
+  /**
+   * Called on the thread about to update a system.
+   *
+   * @param system the system being updated
+   */
+  void updateStarted(GameSystem system);
+
+  /**
+   * Called when the system being updated on the calling thread looks up a query.
+   *
+   * @param entities the number of entities matched by the query
+   */
+  void entitiesMatched(int entities);
+
+  /**
+   * Called when the system being updated on the calling thread iterates a query in parallel, part
+   * of its work then running on other threads of the pool of the world.
+   */
+  void parallelIteration();
+
+  /**
+   * Called on the thread that updated a system, once the update has ended, even if it threw.
+   *
+   * @param system the updated system
+   */
+  void updateEnded(GameSystem system);
+}
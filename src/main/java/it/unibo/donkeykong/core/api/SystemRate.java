@@ -0,0 +1,60 @@
+package it.unibo.donkeykong.core.api;
+
+/**
+ * Rate at which a system added to a {@link World} is updated: on one world update out of {@code
+ * divisor}, or as soon as {@code interval} seconds have passed since its previous update. A system
+ * skipping updates receives the time accumulated since its previous update as its delta time.
+ *
+ * @param divisor the number of world updates per system update, used when there is no interval
+ * @param interval the minimum time between two system updates in seconds, or {@code 0} to use the
+ *     divisor
+ */
+public record SystemRate(int divisor, float interval) {
+
+  private static final SystemRate EVERY_TICK = new SystemRate(1, 0);
+
+  /**
+   * Constructor for SystemRate.
+   *
+   * @param divisor the number of world updates per system update
+   * @param interval the minimum time between two system updates in seconds, or {@code 0}
+   * @throws IllegalArgumentException if the divisor is not positive, the interval is negative, or
+   *     both a divisor and an interval are given
+   */
+  public SystemRate {
+    if (divisor <= 0 || interval < 0 || divisor > 1 && interval > 0) {
+      throw new IllegalArgumentException(
+          "Invalid system rate: divisor " + divisor + ", interval " + interval);
+    }
+  }
+
+  /**
+   * Gets the rate of the systems updated on every world update.
+   *
+   * @return the rate of the systems updated on every tick
+   */
+  public static SystemRate everyTick() {
+    return EVERY_TICK;
+  }
+
+  /**
+   * Creates the rate of the systems updated on one world update out of {@code divisor}.
+   *
+   * @param divisor the number of world updates per system update
+   * @return the new rate
+   */
+  public static SystemRate everyTicks(final int divisor) {
+    return new SystemRate(divisor, 0);
+  }
+
+  /**
+   * Creates the rate of the systems updated once {@code interval} seconds have passed since their
+   * previous update.
+   *
+   * @param interval the minimum time between two system updates, in seconds
+   * @return the new rate
+   */
+  public static SystemRate every(final float interval) {
+    return new SystemRate(1, interval);
+  }
+}
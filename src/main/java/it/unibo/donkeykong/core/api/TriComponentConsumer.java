@@ -0,0 +1,26 @@
+package it.unibo.donkeykong.core.api;
+
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+
+/**
+ * Action performed by {@link World#forEach(Class, Class, Class, TriComponentConsumer)} on each
+ * entity having three component classes, receiving the components straight from the storage of
+ * the world.
+ *
+ * @param <A> the type of the first component
+ * @param <B> the type of the second component
+ * @param <C> the type of the third component
+ */
+@FunctionalInterface
+public interface TriComponentConsumer<A, B, C> {
+
+  /**
+   * Performs this action on an entity.
+   *
+   * @param entity the entity
+   * @param first the first component of the entity
+   * @param second the second component of the entity
+   * @param third the third component of the entity
+   */
+  void accept(Entity entity, A first, B second, C third);
+}
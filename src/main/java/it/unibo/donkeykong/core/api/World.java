@@ -20,7 +20,52 @@ public interface World {
   Entity createEntity();
 
   /**
-   * Adds a {@link Component} to the specified {@link Entity}.
+   * Creates a new {@link Entity} in the world with the components of a {@link Prefab}.
+   *
+   * @param prefab the template of the entity
+   * @return the newly created entity
+   */
+  Entity createEntity(Prefab prefab);
+
+  /**
+   * Creates a new {@link Entity} in the world with the components of a {@link Prefab}, some of
+   * them being replaced by components of the same class. The entity is created once with its own
+   * components, so observers and change ticks never see the ones of the prefab it does not keep.
+   *
+   * @param prefab the template of the entity
+   * @param overrides the components to use in place of those of the prefab of the same class
+   * @return the newly created entity
+   * @throws IllegalArgumentException if the prefab has no component of the class of an override
+   */
+  Entity createEntity(Prefab prefab, Component... overrides);
+
+  /**
+   * Creates many entities with the components of a {@link Prefab} in one structural operation: the
+   * storage is resolved and sized once, and the rows are written directly instead of moving each
+   * entity through one table per added component.
+   *
+   * @param prefab the template of the entities
+   * @param count the number of entities to create
+   * @return the newly created entities, in creation order
+   */
+  List<Entity> createEntities(Prefab prefab, int count);
+
+  /**
+   * Creates many entities with the components of a {@link Prefab} in one structural operation, as
+   * {@link #createEntities(Prefab, int)} does, each of them with its own components in place of
+   * those of the prefab of the same class, as {@link #createEntity(Prefab, Component...)} does.
+   *
+   * @param prefab the template of the entities
+   * @param overrides the components replacing those of the prefab, one list per entity to create
+   * @return the newly created entities, in the order of their overrides
+   * @throws IllegalArgumentException if the prefab has no component of the class of an override
+   */
+  List<Entity> createEntities(Prefab prefab, List<List<Component>> overrides);
+
+  /**
+   * Adds a {@link Component} to the specified {@link Entity}. An entity holds at most one component
+   * per class: if a component of the same class is already present the call has no effect, use
+   * {@link #updateComponentOnEntity} to replace it.
    *
    * @param entity the entity to which the component will be added
    * @param component the component to add
@@ -35,6 +80,27 @@ public interface World {
    */
   Set<Component> getComponentsOfEntity(Entity entity);
 
+  /**
+   * Retrieves the {@link Component} of the specified class associated with an {@link Entity}, in
+   * constant time. Meant for hot paths where wrapping the result in an {@code Optional} is not
+   * wanted.
+   *
+   * @param entity the entity whose component is to be retrieved
+   * @param componentClass the class of the component, may be an interface such as a collider
+   * @return the component, or {@code null} if the entity has none of the specified class
+   * @param <T> the type of the component
+   */
+  <T extends Component> T getComponentOfEntity(Entity entity, Class<T> componentClass);
+
+  /**
+   * Checks whether the specified {@link Entity} has a {@link Component} of the specified class.
+   *
+   * @param entity the entity to check
+   * @param componentClass the class of the component
+   * @return true if the entity has a component of the specified class
+   */
+  boolean hasComponent(Entity entity, Class<? extends Component> componentClass);
+
   /**
    * Removes a {@link Component} from the specified {@link Entity}.
    *
@@ -53,12 +119,21 @@ public interface World {
   void updateComponentOnEntity(Entity entity, Component component);
 
   /**
-   * Removes the specified {@link Entity} from the world.
+   * Removes the specified {@link Entity} from the world. Its id is recycled for a later entity
+   * with a newer generation, so the removed handle never aliases the new entity.
    *
    * @param entity the entity to remove
    */
   void removeEntity(Entity entity);
 
+  /**
+   * Checks whether the specified {@link Entity} still exists in the world.
+   *
+   * @param entity the entity to check
+   * @return true if the entity has been created and not removed yet
+   */
+  boolean isAlive(Entity entity);
+
   /**
    * Retrieves all entities that have the specified component class.
    *
@@ -67,6 +142,137 @@ public interface World {
    */
   Set<Entity> getEntitiesWithComponents(List<Class<? extends Component>> componentClass);
 
+  /**
+   * Retrieves the {@link Query} over the entities that have all the specified component classes.
+   * Queries are registered once and kept up to date by the world, so asking again for the same
+   * component classes returns the same live view.
+   *
+   * @param componentClasses the component classes to filter entities by
+   * @return a live view of the entities having all the specified components
+   */
+  Query query(List<Class<? extends Component>> componentClasses);
+
+  /**
+   * Performs an action on every entity having a component class, passing the component straight
+   * from storage. The action may replace components, but structural changes must go through the
+   * {@link #commands()} buffer, as for any {@link Query}.
+   *
+   * @param first the component class to filter entities by
+   * @param action the action to perform
+   * @param <A> the type of the component
+   */
+  <A extends Component> void forEach(Class<A> first, ComponentConsumer<? super A> action);
+
+  /**
+   * Performs an action on every entity having two component classes, passing the components
+   * straight from storage, as {@link #forEach(Class, ComponentConsumer)} does.
+   *
+   * @param first the first component class to filter entities by
+   * @param second the second component class to filter entities by
+   * @param action the action to perform
+   * @param <A> the type of the first component
+   * @param <B> the type of the second component
+   */
+  <A extends Component, B extends Component> void forEach(
+      Class<A> first, Class<B> second, BiComponentConsumer<? super A, ? super B> action);
+
+  /**
+   * Performs an action on every entity having three component classes, passing the components
+   * straight from storage, as {@link #forEach(Class, ComponentConsumer)} does.
+   *
+   * @param first the first component class to filter entities by
+   * @param second the second component class to filter entities by
+   * @param third the third component class to filter entities by
+   * @param action the action to perform
+   * @param <A> the type of the first component
+   * @param <B> the type of the second component
+   * @param <C> the type of the third component
+   */
+  <A extends Component, B extends Component, C extends Component> void forEach(
+      Class<A> first,
+      Class<B> second,
+      Class<C> third,
+      TriComponentConsumer<? super A, ? super B, ? super C> action);
+
+  /**
+   * Registers an observer notified after a component of the given class, or of a class implementing
+   * it, is added to an entity. Only the component classes having observers pay for notifications.
+   *
+   * @param componentClass the component class to observe
+   * @param observer the observer, receiving the entity and the added component
+   * @param <T> the type of the component
+   */
+  <T extends Component> void onAdd(Class<T> componentClass, ComponentConsumer<? super T> observer);
+
+  /**
+   * Registers an observer notified after a component of the given class, or of a class implementing
+   * it, is removed from an entity, including when the whole entity is removed.
+   *
+   * @param componentClass the component class to observe
+   * @param observer the observer, receiving the entity and the removed component
+   * @param <T> the type of the component
+   */
+  <T extends Component> void onRemove(
+      Class<T> componentClass, ComponentConsumer<? super T> observer);
+
+  /**
+   * Registers an observer notified after a component of the given class, or of a class implementing
+   * it, is replaced through {@link #updateComponentOnEntity}. Writes made through the {@link
+   * #motion()} view are not notified: use the change ticks of a {@link Query} to follow them.
+   *
+   * @param componentClass the component class to observe
+   * @param observer the observer, receiving the entity, the previous and the new component
+   * @param <T> the type of the component
+   */
+  <T extends Component> void onReplace(
+      Class<T> componentClass, BiComponentConsumer<? super T, ? super T> observer);
+
+  /**
+   * Takes a snapshot of the entities and components of this world. The snapshot shares whatever
+   * has not been written since the previous snapshot, so its cost is proportional to the changes
+   * made in between rather than to the size of the world. Components with mutable state are copied
+   * through {@link Component#copy()}.
+   *
+   * @return the snapshot of the world
+   */
+  WorldSnapshot snapshot();
+
+  /**
+   * Brings this world back to a snapshot taken from it. Systems, observers and queries are kept,
+   * observers are not notified, and entity handles created after the snapshot must no longer be
+   * used. Snapshots should be taken and restored between updates.
+   *
+   * @param snapshot a snapshot taken from this world
+   * @throws IllegalArgumentException if the snapshot was taken from another world
+   */
+  void restore(WorldSnapshot snapshot);
+
+  /**
+   * Gets the current tick of the world, which advances before each system update, or once for
+   * systems updated at the same time. Components remember the tick at which they were added and
+   * last written, see {@link Query#forEachChanged}.
+   *
+   * @return the current tick
+   */
+  int currentTick();
+
+  /**
+   * Retrieves the {@link CommandBuffer} of this world, to add and remove entities and components
+   * while a query is being iterated. The world applies the recorded commands after each system
+   * update.
+   *
+   * @return the command buffer of the world
+   */
+  CommandBuffer commands();
+
+  /**
+   * Retrieves the {@link MotionView} of this world, to read and write the position and velocity
+   * of entities in place instead of replacing their components.
+   *
+   * @return the motion view of the world
+   */
+  MotionView motion();
+
   /**
    * Adds a {@link GameSystem} to the world, which will be updated during the world's update cycle.
    *
@@ -74,6 +280,26 @@ public interface World {
    */
   void addSystem(GameSystem system);
 
+  /**
+   * Adds a {@link GameSystem} to the world, updated at the given {@link SystemRate} instead of on
+   * every update of the world.
+   *
+   * @param system the system to add
+   * @param rate the rate at which the system is updated
+   */
+  void addSystem(GameSystem system, SystemRate rate);
+
+  /**
+   * Enables or disables a {@link GameSystem} of the world. A disabled system is skipped by the
+   * updates of the world, and the time passed while it is disabled is not accumulated for it. This
+   * may be called from any thread, and takes effect from the next update of the world.
+   *
+   * @param system the system to enable or disable
+   * @param enabled whether the system should be updated
+   * @throws IllegalArgumentException if the system has not been added to the world
+   */
+  void setSystemEnabled(GameSystem system, boolean enabled);
+
   /**
    * Updates the world state, including all entities and their components.
    *
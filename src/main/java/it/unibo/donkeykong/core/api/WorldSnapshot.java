@@ -0,0 +1,16 @@
+package it.unibo.donkeykong.core.api;
+
+/**
+ * A point-in-time copy of a {@link World}, taken by {@link World#snapshot()} and brought back by
+ * {@link World#restore(WorldSnapshot)}. A snapshot is immutable: restoring it does not consume it,
+ * so the same snapshot can be restored many times.
+ */
+public interface WorldSnapshot {
+
+  /**
+   * Gets the tick of the world when the snapshot was taken.
+   *
+   * @return the tick of the snapshot
+   */
+  int tick();
+}
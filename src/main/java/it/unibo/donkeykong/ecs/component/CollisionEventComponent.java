@@ -3,16 +3,20 @@ package it.unibo.donkeykong.ecs.component;
 import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.component.api.EventComponent;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 
 public class CollisionEventComponent implements EventComponent {
 
-  private final Set<Entity> entities;
+  private static final Comparator<Entity> BY_HANDLE = Comparator.comparingLong(Entity::getHandle);
+
+  /** Colliding entities, sorted by handle so that lookups need neither a set nor an iterator. */
+  private final List<Entity> entities;
 
   public CollisionEventComponent() {
-    this.entities = new HashSet<>();
+    this.entities = new ArrayList<>();
   }
 
   public CollisionEventComponent(Entity collision) {
@@ -20,17 +24,41 @@ public class CollisionEventComponent implements EventComponent {
     this.entities.add(collision);
   }
 
+  @Override
+  public CollisionEventComponent copy() {
+    final CollisionEventComponent copy = new CollisionEventComponent();
+    copy.entities.addAll(this.entities);
+    return copy;
+  }
+
   public void addCollision(Entity otherEntity) {
-    this.entities.add(otherEntity);
+    final int index = Collections.binarySearch(this.entities, otherEntity, BY_HANDLE);
+    if (index < 0) {
+      this.entities.add(-index - 1, otherEntity);
+    }
   }
 
   public boolean hasCollisionsWith(Class<? extends Component> componentClass) {
-    return entities.stream().anyMatch(entity -> entity.getComponent(componentClass).isPresent());
+    return firstCollisionWith(componentClass) != null;
+  }
+
+  /**
+   * Finds the first colliding entity having a component of the given class, without allocating.
+   *
+   * @param componentClass the class of the component
+   * @return the colliding entity with the lowest handle having the component, or {@code null}
+   */
+  public Entity firstCollisionWith(Class<? extends Component> componentClass) {
+    for (int i = 0; i < this.entities.size(); i++) {
+      final Entity entity = this.entities.get(i);
+      if (entity.hasComponent(componentClass)) {
+        return entity;
+      }
+    }
+    return null;
   }
 
   public List<Entity> getCollisionsWith(Class<? extends Component> componentClass) {
-    return entities.stream()
-        .filter(entity -> entity.getComponent(componentClass).isPresent())
-        .toList();
+    return entities.stream().filter(entity -> entity.hasComponent(componentClass)).toList();
   }
 }
@@ -2,5 +2,10 @@ package it.unibo.donkeykong.ecs.component;
 
 import it.unibo.donkeykong.ecs.component.api.Component;
 
-/** GravityComponent component, which represents the gravitational force affecting an entity. */
+/**
+ * GravityComponent component, which represents the gravitational force affecting an entity.
+ *
+ * @param gravity the vertical velocity gained in a step of {@link
+ *     it.unibo.donkeykong.core.Constants#REFERENCE_STEP} seconds, scaled for steps of other lengths
+ */
 public record GravityComponent(double gravity) implements Component {}
@@ -29,6 +29,15 @@ public class InputComponent implements Component {
     this.jumpPressed = false;
   }
 
+  @Override
+  public InputComponent copy() {
+    final InputComponent copy = new InputComponent();
+    copy.currentHInput = this.currentHInput;
+    copy.currentVInput = this.currentVInput;
+    copy.jumpPressed = this.jumpPressed;
+    return copy;
+  }
+
   public HorizontalInput getCurrentHInput() {
     return currentHInput;
   }
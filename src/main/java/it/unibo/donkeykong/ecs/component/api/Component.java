@@ -4,4 +4,16 @@ package it.unibo.donkeykong.ecs.component.api;
  * This interface represents a general component in the ECS architecture. Each component hold a
  * particular aspect of the entity which it belongs to.
  */
-public interface Component {}
+public interface Component {
+
+  /**
+   * Returns a copy of this component that is not affected by later changes to this instance, which
+   * is what world snapshots keep. Components are immutable by default and return themselves;
+   * components with mutable state must override this method.
+   *
+   * @return a copy of this component
+   */
+  default Component copy() {
+    return this;
+  }
+}
@@ -2,21 +2,61 @@ package it.unibo.donkeykong.ecs.entity;
 
 import static it.unibo.donkeykong.core.Constants.*;
 
+import it.unibo.donkeykong.core.api.Prefab;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
 import it.unibo.donkeykong.ecs.component.GraphicComponent.*;
 import it.unibo.donkeykong.ecs.component.StateComponent.*;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
-/** Implementation of the EntityFactory interface responsible for creating various game entities. */
+/**
+ * Implementation of the EntityFactory interface responsible for creating various game entities.
+ * Barrels, platforms and ladders are created from {@link Prefab}s, so that the components they
+ * have in common, such as the sprite of the barrels, are shared instead of being allocated for
+ * each entity. The components of their own, such as the place of a platform, override those of
+ * the prefab at creation, so each entity is created once with its real components.
+ */
 public record EntityFactoryImpl(World world) implements EntityFactory {
 
+  private static final Prefab LEFT_BARREL =
+      Prefab.of(
+          LEFT_BARREL_SPAWN,
+          new VelocityComponent(0, 0),
+          new BouncinessComponent(),
+          new GravityComponent(GRAVITY),
+          new StateComponent(State.MOVING, Direction.LEFT),
+          new DamageComponent(BARREL_DAMAGE),
+          new CircleCollider(BARREL_COLLISION_RADIUS),
+          new GraphicComponent(
+              "/sprites/barrel.png",
+              BARREL_WIDTH,
+              BARREL_HEIGHT,
+              BARREL_BORDER,
+              BARREL_SCALE,
+              BARREL_FRAME_DURATION,
+              (state) -> new AnimationSettings(0, 0, 4)));
+  private static final Prefab RIGHT_BARREL =
+      LEFT_BARREL.with(RIGHT_BARREL_SPAWN).with(new StateComponent(State.MOVING, Direction.RIGHT));
+  private static final Prefab PLATFORM =
+      Prefab.of(new PositionComponent(0, 0), new SolidComponent(), new RectangleCollider(0, 0));
+  private static final Prefab LADDER =
+      Prefab.of(new PositionComponent(0, 0), new ClimbableComponent(), new RectangleCollider(0, 0));
+
   @Override
   public Entity createFirstPlayer() {
+    return createPlayer(FIRST_PLAYER_SPAWN);
+  }
+
+  @Override
+  public Entity createPlayer(PositionComponent position) {
     return world
         .createEntity()
-        .addComponent(FIRST_PLAYER_SPAWN)
+        .addComponent(position)
         .addComponent(new InputComponent())
         .addComponent(new GravityComponent(GRAVITY))
         .addComponent(new VelocityComponent(0, 0))
@@ -102,43 +142,40 @@ public record EntityFactoryImpl(World world) implements EntityFactory {
 
   @Override
   public Entity createBarrel(double velocity) {
-    Direction direction = velocity < 0 ? Direction.LEFT : Direction.RIGHT;
-    PositionComponent pos = velocity < 0 ? LEFT_BARREL_SPAWN : RIGHT_BARREL_SPAWN;
-    return world
-        .createEntity()
-        .addComponent(pos)
-        .addComponent(new VelocityComponent(velocity, 0))
-        .addComponent(new BouncinessComponent())
-        .addComponent(new GravityComponent(GRAVITY))
-        .addComponent(new StateComponent(State.MOVING, direction))
-        .addComponent(new DamageComponent(BARREL_DAMAGE))
-        .addComponent(new CircleCollider(BARREL_COLLISION_RADIUS))
-        .addComponent(
-            new GraphicComponent(
-                "/sprites/barrel.png",
-                BARREL_WIDTH,
-                BARREL_HEIGHT,
-                BARREL_BORDER,
-                BARREL_SCALE,
-                BARREL_FRAME_DURATION,
-                (state) -> new AnimationSettings(0, 0, 4)));
+    return world.createEntity(
+        velocity < 0 ? LEFT_BARREL : RIGHT_BARREL, new VelocityComponent(velocity, 0));
+  }
+
+  @Override
+  public Entity createBarrel(PositionComponent position, double velocity) {
+    return world.createEntity(
+        velocity < 0 ? LEFT_BARREL : RIGHT_BARREL, position, new VelocityComponent(velocity, 0));
   }
 
   @Override
   public Entity createPlatform(PositionComponent pos, RectangleCollider collider) {
-    return world
-        .createEntity()
-        .addComponent(pos)
-        .addComponent(new SolidComponent())
-        .addComponent(collider);
+    return world.createEntity(PLATFORM, pos, collider);
   }
 
   @Override
   public Entity createLadder(PositionComponent pos, RectangleCollider collider) {
-    return world
-        .createEntity()
-        .addComponent(pos)
-        .addComponent(new ClimbableComponent())
-        .addComponent(collider);
+    return world.createEntity(LADDER, pos, collider);
+  }
+
+  @Override
+  public List<Entity> createPlatforms(Map<PositionComponent, RectangleCollider> platforms) {
+    return world.createEntities(PLATFORM, placements(platforms));
+  }
+
+  @Override
+  public List<Entity> createLadders(Map<PositionComponent, RectangleCollider> ladders) {
+    return world.createEntities(LADDER, placements(ladders));
+  }
+
+  private static List<List<Component>> placements(
+      Map<PositionComponent, RectangleCollider> colliders) {
+    final List<List<Component>> placements = new ArrayList<>(colliders.size());
+    colliders.forEach((pos, collider) -> placements.add(List.of(pos, collider)));
+    return placements;
   }
 }
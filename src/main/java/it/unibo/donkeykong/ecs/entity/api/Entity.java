@@ -10,12 +10,36 @@ import java.util.Optional;
  */
 public interface Entity {
   /**
-   * Gets the unique identifier of this entity.
+   * Gets the identifier of this entity. Identifiers are unique among the living entities of a world
+   * and are reused once an entity is removed.
    *
    * @return the entity ID
    */
   int getId();
 
+  /**
+   * Gets the generation of this entity, which tells apart the entities that have used the same ID
+   * over time.
+   *
+   * @return the entity generation
+   */
+  int getGeneration();
+
+  /**
+   * Gets the handle of this entity, with the ID in the low 32 bits and the generation in the high
+   * 32 bits. Two entities are equal if and only if their handles are equal.
+   *
+   * @return the entity handle
+   */
+  long getHandle();
+
+  /**
+   * Checks whether this entity is still part of its world.
+   *
+   * @return true if the entity has not been removed
+   */
+  boolean isAlive();
+
   /**
    * Retrieves a {@link Component} of the specified class type if it exists.
    *
@@ -25,6 +49,25 @@ public interface Entity {
    */
   <T extends Component> Optional<T> getComponent(Class<T> componentClass);
 
+  /**
+   * Retrieves a {@link Component} of the specified class type, failing if it does not exist. This
+   * is the accessor to use in systems, where the component is known to be present.
+   *
+   * @param componentClass the class of the component to retrieve
+   * @return the component
+   * @param <T> the type of the component
+   * @throws java.util.NoSuchElementException if the entity has no component of the specified class
+   */
+  <T extends Component> T requireComponent(Class<T> componentClass);
+
+  /**
+   * Checks whether this entity has a {@link Component} of the specified class type.
+   *
+   * @param componentClass the class of the component
+   * @return true if the component is present
+   */
+  boolean hasComponent(Class<? extends Component> componentClass);
+
   /**
    * Adds a {@link Component} to this entity.
    *
@@ -2,6 +2,8 @@ package it.unibo.donkeykong.ecs.entity.api;
 
 import it.unibo.donkeykong.ecs.component.PositionComponent;
 import it.unibo.donkeykong.ecs.component.RectangleCollider;
+import java.util.List;
+import java.util.Map;
 
 /** Factory interface for creating the main entities of the Donkey Kong game. */
 public interface EntityFactory {
@@ -19,6 +21,14 @@ public interface EntityFactory {
    */
   Entity createSecondPlayer();
 
+  /**
+   * Creates a player entity driven by its input, as the first player, at the given position.
+   *
+   * @param position the spawn position of the player
+   * @return a new entity representing a player
+   */
+  Entity createPlayer(PositionComponent position);
+
   /**
    * Creates the Pauline entity.
    *
@@ -41,6 +51,15 @@ public interface EntityFactory {
    */
   Entity createBarrel(double velocity);
 
+  /**
+   * Creates a barrel entity at the given position instead of at the spawn of its direction.
+   *
+   * @param position the position of the barrel
+   * @param velocity the horizontal velocity of the barrel
+   * @return a new entity representing a barrel
+   */
+  Entity createBarrel(PositionComponent position, double velocity);
+
   /**
    * Creates a platform entity.
    *
@@ -58,4 +77,20 @@ public interface EntityFactory {
    * @return a new entity representing a ladder
    */
   Entity createLadder(PositionComponent position, RectangleCollider collider);
+
+  /**
+   * Creates a platform entity for each of the given positions, all at once.
+   *
+   * @param platforms the rectangle collider of each platform, by position
+   * @return the new entities representing the platforms
+   */
+  List<Entity> createPlatforms(Map<PositionComponent, RectangleCollider> platforms);
+
+  /**
+   * Creates a ladder entity for each of the given positions, all at once.
+   *
+   * @param ladders the rectangle collider of each ladder, by position
+   * @return the new entities representing the ladders
+   */
+  List<Entity> createLadders(Map<PositionComponent, RectangleCollider> ladders);
 }
@@ -3,54 +3,65 @@ package it.unibo.donkeykong.ecs.system;
 import static it.unibo.donkeykong.core.Constants.BOTTOM_THRESHOLD;
 
 import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.api.CommandBuffer;
+import it.unibo.donkeykong.core.api.MotionView;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
 import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * BoundariesSystem keeps the bodies inside the world, bouncing the bouncy ones off its borders and
+ * removing those leaving it at the bottom. Removing whole entities, it writes every component.
+ */
 public class BoundariesSystem implements GameSystem {
 
+  private static final List<Class<? extends Component>> BOUNDED_ENTITIES =
+      List.of(PositionComponent.class, Collider.class);
+
   @Override
   public void update(World world, float deltaTime) {
-    final List<Entity> entitiesToRemove = new ArrayList<>();
-
-    for (Entity entity :
-        world.getEntitiesWithComponents(List.of(PositionComponent.class, Collider.class))) {
-      final PositionComponent position = entity.getComponent(PositionComponent.class).orElseThrow();
-      final Collider collider = entity.getComponent(Collider.class).orElseThrow();
-      final double halfWidth = collider.width() / 2.0;
-      final double halfHeight = collider.height() / 2.0;
-      final double newX =
-          Math.min(Math.max(position.x(), halfWidth), Constants.WORLD_WIDTH - halfWidth);
-      final double newY =
-          Math.min(Math.max(position.y(), halfHeight), Constants.WORLD_HEIGHT - halfHeight);
-
-      if (newX != position.x() || newY != position.y()) {
-        if (entity.getComponent(BouncinessComponent.class).isPresent()
-            && position.y() > BOTTOM_THRESHOLD
-            && newX != position.x()) {
-          entitiesToRemove.add(entity);
-        } else {
-          entity.updateComponent(new PositionComponent(newX, newY));
-          if (entity.getComponent(BouncinessComponent.class).isPresent()) {
-            entity
-                .getComponent(VelocityComponent.class)
-                .ifPresent(
-                    velocity ->
-                        entity.updateComponent(
-                            new VelocityComponent(
-                                (newX != position.x() ? -1 : 1) * velocity.dx(),
-                                (newY != position.y() ? -1 : 1) * velocity.dy())));
-          }
+    final MotionView motion = world.motion();
+    final CommandBuffer commands = world.commands();
+    world.query(BOUNDED_ENTITIES).forEach(entity -> clamp(motion, commands, entity));
+  }
+
+  private static void clamp(MotionView motion, CommandBuffer commands, Entity entity) {
+    final double x = motion.x(entity);
+    final double y = motion.y(entity);
+    final Collider collider = entity.requireComponent(Collider.class);
+    final double halfWidth = collider.width() / 2.0;
+    final double halfHeight = collider.height() / 2.0;
+    final double newX = Math.min(Math.max(x, halfWidth), Constants.WORLD_WIDTH - halfWidth);
+    final double newY = Math.min(Math.max(y, halfHeight), Constants.WORLD_HEIGHT - halfHeight);
+
+    if (newX != x || newY != y) {
+      final boolean bouncy = entity.hasComponent(BouncinessComponent.class);
+      if (bouncy && y > BOTTOM_THRESHOLD && newX != x) {
+        commands.removeEntity(entity);
+      } else {
+        motion.setPosition(entity, newX, newY);
+        if (bouncy && entity.hasComponent(VelocityComponent.class)) {
+          motion.setVelocity(
+              entity,
+              (newX != x ? -1 : 1) * motion.dx(entity),
+              (newY != y ? -1 : 1) * motion.dy(entity));
         }
       }
     }
+  }
 
-    for (final Entity e : entitiesToRemove) {
-      world.removeEntity(e);
-    }
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(Collider.class, BouncinessComponent.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(Component.class);
   }
 }
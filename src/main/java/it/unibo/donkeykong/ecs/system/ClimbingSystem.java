@@ -1,45 +1,59 @@
 package it.unibo.donkeykong.ecs.system;
 
+import static it.unibo.donkeykong.core.Constants.REFERENCE_STEP;
+
+import it.unibo.donkeykong.core.api.MotionView;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
 import it.unibo.donkeykong.ecs.component.StateComponent.State;
+import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
 import it.unibo.donkeykong.ecs.system.common.CollisionUtils;
-import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 public class ClimbingSystem implements GameSystem {
+
   @Override
   public void update(World world, float deltaTime) {
-    world
-        .getEntitiesWithComponents(List.of(CollisionEventComponent.class))
-        .forEach(
-            entity -> {
-              CollisionEventComponent collisionEvent =
-                  entity.getComponent(CollisionEventComponent.class).orElseThrow();
-              Optional<Entity> ladder =
-                  collisionEvent.getCollisionsWith(ClimbableComponent.class).stream().findFirst();
-              StateComponent oldState = entity.getComponent(StateComponent.class).orElseThrow();
-              boolean canClimb =
-                  ladder.isPresent()
-                      && CollisionUtils.areAligned(entity, ladder.get())
-                      && oldState.state() != State.JUMP
-                      && oldState.state() != State.FALL
-                      && oldState.state() != State.FAST_FALL;
-              double verticalVelocity =
-                  entity
-                      .getComponent(GravityComponent.class)
-                      .map(GravityComponent::gravity)
-                      .orElse(0.0);
-              if (canClimb) {
-                entity
-                    .getComponent(VelocityComponent.class)
-                    .ifPresent(
-                        velocity ->
-                            entity.updateComponent(
-                                new VelocityComponent(velocity.dx(), -verticalVelocity)));
-              }
-            });
+    final MotionView motion = world.motion();
+    final double steps = deltaTime / REFERENCE_STEP;
+    world.forEach(
+        CollisionEventComponent.class,
+        (entity, collisionEvent) -> {
+          Entity ladder = collisionEvent.firstCollisionWith(ClimbableComponent.class);
+          if (ladder == null || !world.hasComponent(entity, VelocityComponent.class)) {
+            return;
+          }
+          StateComponent state = world.getComponentOfEntity(entity, StateComponent.class);
+          boolean canClimb =
+              state != null
+                  && CollisionUtils.areAligned(entity, ladder)
+                  && state.state() != State.JUMP
+                  && state.state() != State.FALL
+                  && state.state() != State.FAST_FALL;
+          if (canClimb) {
+            GravityComponent gravity = world.getComponentOfEntity(entity, GravityComponent.class);
+            double verticalVelocity = gravity != null ? gravity.gravity() * steps : 0.0;
+            motion.setVelocity(entity, motion.dx(entity), -verticalVelocity);
+          }
+        });
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(
+        CollisionEventComponent.class,
+        StateComponent.class,
+        GravityComponent.class,
+        ClimbableComponent.class,
+        PositionComponent.class,
+        Collider.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(VelocityComponent.class);
   }
 }
@@ -0,0 +1,24 @@
+package it.unibo.donkeykong.ecs.system;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Flight Recorder event spanning the collision detection of {@link CollisionSystem}. */
+@Name("it.unibo.donkeykong.CollisionCheck")
+@Label("Collision Check")
+@Category({"Donkey Kong", "Systems"})
+@Description("Collision detection between the moving entities and the bodies near them")
+@StackTrace(false)
+final class CollisionCheckEvent extends Event {
+
+  @Label("Tested Pairs")
+  @Description("Pairs of a moving entity and another body tested for a collision")
+  long testedPairs;
+
+  @Label("Colliding Pairs")
+  long collidingPairs;
+}
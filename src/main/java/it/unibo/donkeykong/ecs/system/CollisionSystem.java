@@ -2,48 +2,119 @@ package it.unibo.donkeykong.ecs.system;
 
 import static it.unibo.donkeykong.ecs.system.common.CollisionUtils.isColliding;
 
+import it.unibo.donkeykong.core.api.MotionView;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
 import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.system.api.BroadPhase;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import it.unibo.donkeykong.ecs.system.common.UniformGridBroadPhase;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
-/** CollisionSystem handles collision detection between entities in the game world. */
+/**
+ * CollisionSystem handles collision detection between entities in the game world. Each moving
+ * entity is only tested against the candidates of a {@link BroadPhase}, a uniform grid unless
+ * another one is given.
+ */
 public class CollisionSystem implements GameSystem {
 
+  private static final List<Class<? extends Component>> MOVING_BODIES =
+      List.of(PositionComponent.class, Collider.class, VelocityComponent.class);
+
+  private final BroadPhase broadPhase;
+  private final CandidateTest candidateTest;
+  private long testedPairs;
+  private long collidingPairs;
+
+  /**
+   * Exact test of the candidates of the moving entity being checked, reused for every entity so
+   * that looking up the candidates allocates nothing.
+   */
+  private final class CandidateTest implements BroadPhase.CandidateConsumer {
+
+    private final List<Entity> collisions = new ArrayList<>();
+    private Entity entity;
+    private double x;
+    private double y;
+    private Collider collider;
+
+    @Override
+    public void accept(Entity otherEntity, double otherX, double otherY, Collider otherCollider) {
+      if (otherEntity.equals(this.entity)) {
+        return;
+      }
+      testedPairs++;
+      if (isColliding(this.x, this.y, this.collider, otherX, otherY, otherCollider)) {
+        this.collisions.add(otherEntity);
+        collidingPairs++;
+      }
+    }
+  }
+
+  /** Constructor for CollisionSystem, with a {@link UniformGridBroadPhase}. */
+  public CollisionSystem() {
+    this(new UniformGridBroadPhase());
+  }
+
+  /**
+   * Constructor for CollisionSystem.
+   *
+   * @param broadPhase the broad phase finding the bodies a moving entity may collide with
+   */
+  public CollisionSystem(BroadPhase broadPhase) {
+    this.broadPhase = broadPhase;
+    this.candidateTest = new CandidateTest();
+  }
+
   @Override
   public void update(World world, float deltaTime) {
-    Set<Entity> movingSolidEntities =
-        world.getEntitiesWithComponents(
-            List.of(PositionComponent.class, Collider.class, VelocityComponent.class));
-    Set<Entity> solidEntities =
-        world.getEntitiesWithComponents(List.of(PositionComponent.class, Collider.class));
-
-    for (Entity entity : movingSolidEntities) {
-      PositionComponent position = entity.getComponent(PositionComponent.class).orElseThrow();
-      Collider collider = entity.getComponent(Collider.class).orElseThrow();
-      solidEntities.stream()
-          .filter(otherEntity -> !otherEntity.equals(entity))
-          .filter(
-              otherEntity -> {
-                PositionComponent otherPosition =
-                    otherEntity.getComponent(PositionComponent.class).orElseThrow();
-                Collider otherCollider = otherEntity.getComponent(Collider.class).orElseThrow();
-                return isColliding(position, collider, otherPosition, otherCollider);
-              })
-          .forEach(
-              otherEntity -> {
-                Optional<CollisionEventComponent> event =
-                    entity.getComponent(CollisionEventComponent.class);
-                if (event.isPresent()) {
-                  event.get().addCollision(otherEntity);
-                } else {
-                  entity.addComponent(new CollisionEventComponent(otherEntity));
-                }
-              });
+    final CollisionCheckEvent event = new CollisionCheckEvent();
+    event.begin();
+    this.testedPairs = 0;
+    this.collidingPairs = 0;
+    this.broadPhase.update(world);
+    final MotionView motion = world.motion();
+    world.query(MOVING_BODIES).forEach(entity -> detectCollisions(world, motion, entity));
+    event.end();
+    if (event.shouldCommit()) {
+      event.testedPairs = this.testedPairs;
+      event.collidingPairs = this.collidingPairs;
+      event.commit();
     }
   }
+
+  private void detectCollisions(World world, MotionView motion, Entity entity) {
+    final CandidateTest test = this.candidateTest;
+    test.entity = entity;
+    test.x = motion.x(entity);
+    test.y = motion.y(entity);
+    test.collider = world.getComponentOfEntity(entity, Collider.class);
+    this.broadPhase.forEachCandidate(test.x, test.y, test.collider, test);
+    if (!test.collisions.isEmpty()) {
+      CollisionEventComponent event =
+          world.getComponentOfEntity(entity, CollisionEventComponent.class);
+      if (event == null) {
+        event = new CollisionEventComponent();
+        world.commands().addComponent(entity, event);
+      }
+      for (int i = 0; i < test.collisions.size(); i++) {
+        event.addCollision(test.collisions.get(i));
+      }
+      test.collisions.clear();
+    }
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(PositionComponent.class, Collider.class, VelocityComponent.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(CollisionEventComponent.class);
+  }
 }
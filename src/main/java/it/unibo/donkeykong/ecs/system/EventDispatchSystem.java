@@ -1,9 +1,11 @@
 package it.unibo.donkeykong.ecs.system;
 
+import it.unibo.donkeykong.core.api.CommandBuffer;
 import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.component.api.EventComponent;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
-import java.util.List;
+import java.util.Set;
 
 /**
  * EventDispatchSystem is responsible for clearing event components at the end of each update cycle.
@@ -12,9 +14,17 @@ public class EventDispatchSystem implements GameSystem {
 
   @Override
   public void update(World world, float deltaTime) {
-    world
-        .getEntitiesWithComponents(List.of(EventComponent.class))
-        .forEach(
-            entity -> entity.getComponent(EventComponent.class).ifPresent(entity::removeComponent));
+    final CommandBuffer commands = world.commands();
+    world.forEach(EventComponent.class, commands::removeComponent);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of();
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(EventComponent.class);
   }
 }
@@ -1,27 +1,47 @@
 package it.unibo.donkeykong.ecs.system;
 
+import static it.unibo.donkeykong.core.Constants.REFERENCE_STEP;
+
+import it.unibo.donkeykong.core.api.MotionView;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
 import java.util.List;
+import java.util.Set;
 
 /**
  * GravitySystem applies gravitational force to entities with GravityComponent and VelocityComponent
- * components.
+ * components. The velocity gained is proportional to the time step, so that the game falls at the
+ * same speed whatever the tick rate, and matches the gravity of the components at the {@linkplain
+ * it.unibo.donkeykong.core.Constants#REFERENCE_STEP reference step}.
  */
 public class GravitySystem implements GameSystem {
+
+  private static final List<Class<? extends Component>> FALLING_ENTITIES =
+      List.of(GravityComponent.class, VelocityComponent.class);
+
   @Override
   public void update(World world, float deltaTime) {
+    final MotionView motion = world.motion();
+    final double steps = deltaTime / REFERENCE_STEP;
     world
-        .getEntitiesWithComponents(List.of(GravityComponent.class, VelocityComponent.class))
+        .query(FALLING_ENTITIES)
         .forEach(
             entity -> {
-              var gravity =
-                  entity.getComponent(GravityComponent.class).orElse(new GravityComponent(0));
-              var velocity = entity.getComponent(VelocityComponent.class).orElseThrow();
-              double newDy = velocity.dy() + gravity.gravity();
-              VelocityComponent newVelocity = new VelocityComponent(velocity.dx(), newDy);
-              entity.updateComponent(newVelocity);
+              var gravity = entity.requireComponent(GravityComponent.class);
+              motion.setVelocity(
+                  entity, motion.dx(entity), motion.dy(entity) + gravity.gravity() * steps);
             });
   }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(GravityComponent.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(VelocityComponent.class);
+  }
 }
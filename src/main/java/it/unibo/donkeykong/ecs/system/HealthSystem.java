@@ -2,54 +2,56 @@ package it.unibo.donkeykong.ecs.system;
 
 import static it.unibo.donkeykong.core.Constants.RESPAWN_POSITION;
 
+import it.unibo.donkeykong.core.api.CommandBuffer;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
-/** HealthSystem manages the health status of entities within the game world. */
+/**
+ * HealthSystem manages the health status of entities within the game world. Removing the dead
+ * entities and the barrels that hit them, it writes every component.
+ */
 public class HealthSystem implements GameSystem {
 
   @Override
   public void update(World world, float deltaTime) {
-    Set<Entity> targetEntities =
-        world.getEntitiesWithComponents(
-            List.of(HealthComponent.class, CollisionEventComponent.class));
-    targetEntities.stream()
-        .filter(
-            entity -> {
-              CollisionEventComponent collisionEvent =
-                  entity.getComponent(CollisionEventComponent.class).orElseThrow();
-              return collisionEvent.hasCollisionsWith(DamageComponent.class);
-            })
-        .forEach(
-            entity -> {
-              HealthComponent health = entity.getComponent(HealthComponent.class).orElseThrow();
-              int currentLives = health.livesCount();
-              List<Entity> damagingEntities =
-                  entity
-                      .getComponent(CollisionEventComponent.class)
-                      .orElseThrow()
-                      .getCollisionsWith(DamageComponent.class);
-              int totalDamage =
-                  damagingEntities.stream()
-                      .map(otherEntity -> otherEntity.getComponent(DamageComponent.class))
-                      .map(Optional::orElseThrow)
-                      .map(DamageComponent::damageAmount)
-                      .reduce(0, Integer::sum);
-              int newLives = currentLives - totalDamage;
-              if (newLives > 0) {
-                entity.updateComponent(new HealthComponent(newLives));
-                entity
-                    .getComponent(PositionComponent.class)
-                    .ifPresent(position -> entity.updateComponent(RESPAWN_POSITION));
-              } else {
-                world.removeEntity(entity);
-              }
-              damagingEntities.forEach(world::removeEntity);
-            });
+    final CommandBuffer commands = world.commands();
+    world.forEach(
+        HealthComponent.class,
+        CollisionEventComponent.class,
+        (entity, health, collisionEvent) -> {
+          if (!collisionEvent.hasCollisionsWith(DamageComponent.class)) {
+            return;
+          }
+          List<Entity> damagingEntities = collisionEvent.getCollisionsWith(DamageComponent.class);
+          int totalDamage = 0;
+          for (Entity otherEntity : damagingEntities) {
+            totalDamage += otherEntity.requireComponent(DamageComponent.class).damageAmount();
+          }
+          int newLives = health.livesCount() - totalDamage;
+          if (newLives > 0) {
+            entity.updateComponent(new HealthComponent(newLives));
+            if (entity.hasComponent(PositionComponent.class)) {
+              entity.updateComponent(RESPAWN_POSITION);
+            }
+          } else {
+            commands.removeEntity(entity);
+          }
+          damagingEntities.forEach(commands::removeEntity);
+        });
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(CollisionEventComponent.class, DamageComponent.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(Component.class);
   }
 }
@@ -4,139 +4,139 @@ import static it.unibo.donkeykong.core.Constants.*;
 import static it.unibo.donkeykong.ecs.component.StateComponent.Direction.*;
 import static it.unibo.donkeykong.ecs.component.StateComponent.State.*;
 
+import it.unibo.donkeykong.core.api.MotionView;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
 import it.unibo.donkeykong.ecs.component.InputComponent.*;
 import it.unibo.donkeykong.ecs.component.StateComponent.*;
 import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
 import it.unibo.donkeykong.ecs.system.common.CollisionUtils;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 /** System that processes player input and updates entity velocities accordingly. */
 public class InputSystem implements GameSystem {
+
+  private static final List<Class<? extends Component>> CONTROLLED_ENTITIES =
+      List.of(InputComponent.class, VelocityComponent.class, StateComponent.class);
+  private static final GravityComponent NO_GRAVITY = new GravityComponent(0);
+
   @Override
   public void update(World world, float deltaTime) {
-    world
-        .getEntitiesWithComponents(List.of(InputComponent.class))
-        .forEach(
-            entity -> {
-              InputComponent input = entity.getComponent(InputComponent.class).orElseThrow();
-              VelocityComponent oldVelocity =
-                  entity.getComponent(VelocityComponent.class).orElseThrow();
-              StateComponent oldState = entity.getComponent(StateComponent.class).orElseThrow();
-              Optional<CollisionEventComponent> collisionEvent =
-                  entity.getComponent(CollisionEventComponent.class);
-              GravityComponent gravity =
-                  entity.getComponent(GravityComponent.class).orElse(new GravityComponent(0));
-
-              double newDx, newDy;
-              State newState;
-              Direction newDir;
-              Optional<Entity> ladderOpt =
-                  collisionEvent.flatMap(
-                      event ->
-                          event.getCollisionsWith(ClimbableComponent.class).stream().findFirst());
-              final boolean canClimb =
-                  ladderOpt.filter(v -> CollisionUtils.areAligned(entity, v)).isPresent();
-              final boolean isGrounded =
-                  collisionEvent
-                      .map(event -> event.hasCollisionsWith(SolidComponent.class))
-                      .orElse(false);
-              final boolean wasClimbing =
-                  oldState.state() == UP
-                      || oldState.state() == DOWN
-                      || oldState.state() == STOP_CLIMB;
-              final boolean wasInAir =
-                  oldState.state() == JUMP
-                      || oldState.state() == FALL
-                      || oldState.state() == FAST_FALL;
-
-              switch (input.getCurrentHInput()) {
-                case MOVE_LEFT -> {
-                  newDir = LEFT;
-                  newDx = -PLAYER_VELOCITY;
-                }
-                case MOVE_RIGHT -> {
-                  newDir = RIGHT;
-                  newDx = PLAYER_VELOCITY;
-                }
-                default -> {
-                  newDir = oldState.direction();
-                  newDx = 0;
-                }
-              }
-
-              if (input.isJumpPressed()) {
-                if (isGrounded || (canClimb && !wasInAir)) {
-                  newDy = JUMP_FACTOR * -gravity.gravity();
-                  newState = JUMP;
-                } else {
-                  newDy = oldVelocity.dy();
-                  newState = oldState.state();
-                }
-                input.setJumpPressed(false);
-              } else if (canClimb) {
-                if (input.getCurrentHInput() == HorizontalInput.NONE) {
-                  snapToLadderCenter(entity, ladderOpt.get());
-                  switch (input.getCurrentVInput()) {
-                    case MOVE_UP -> {
-                      if (isAtTopOfLadder(entity, ladderOpt.get())) {
-                        snapToLadderTop(entity, ladderOpt.get());
-                        newDy = 0;
-                        newState = IDLE;
-                      } else {
-                        newDy = oldVelocity.dy() - PLAYER_VELOCITY;
-                        newState = UP;
-                      }
-                    }
-                    case MOVE_DOWN -> {
-                      newDy = oldVelocity.dy() + PLAYER_VELOCITY;
-                      newState = DOWN;
-                    }
-                    default -> {
-                      newDy = oldVelocity.dy();
-                      if (!wasInAir) {
-                        newState = STOP_CLIMB;
-                      } else {
-                        newState = oldState.state();
-                      }
-                    }
-                  }
-                } else {
-                  if (wasClimbing) {
-                    snapToLadderEdge(entity, ladderOpt.get(), new VelocityComponent(newDx, 0));
-                    newState = FALL;
-                  } else {
-                    newState = oldState.state();
-                  }
-                  newDy = oldVelocity.dy();
-                }
-              } else if (isGrounded) {
-                newDy = oldVelocity.dy();
-                newState = input.getCurrentHInput() == HorizontalInput.NONE ? IDLE : MOVING;
-              } else if (input.getCurrentVInput() == InputComponent.VerticalInput.MOVE_DOWN) {
-                newDy = FALL_FACTOR * gravity.gravity();
-                newState = FAST_FALL;
-              } else {
-                newDy = oldVelocity.dy();
-                if (oldState.state() == FAST_FALL) {
-                  newDy = gravity.gravity();
-                }
-                newState = newDy < 0 ? JUMP : FALL;
-              }
-
-              entity.updateComponent(new VelocityComponent(newDx, newDy));
-              entity.updateComponent(new StateComponent(newState, newDir));
-            });
+    final MotionView motion = world.motion();
+    world.query(CONTROLLED_ENTITIES).forEach(entity -> control(world, motion, entity));
+  }
+
+  private void control(World world, MotionView motion, Entity entity) {
+    final InputComponent input = world.getComponentOfEntity(entity, InputComponent.class);
+    final StateComponent oldState = world.getComponentOfEntity(entity, StateComponent.class);
+    final double oldDy = motion.dy(entity);
+    final CollisionEventComponent collisionEvent =
+        world.getComponentOfEntity(entity, CollisionEventComponent.class);
+    final GravityComponent presentGravity =
+        world.getComponentOfEntity(entity, GravityComponent.class);
+    final GravityComponent gravity = presentGravity != null ? presentGravity : NO_GRAVITY;
+
+    double newDx, newDy;
+    State newState;
+    Direction newDir;
+    final Entity ladder =
+        collisionEvent != null ? collisionEvent.firstCollisionWith(ClimbableComponent.class) : null;
+    final boolean canClimb = ladder != null && CollisionUtils.areAligned(entity, ladder);
+    final boolean isGrounded =
+        collisionEvent != null && collisionEvent.hasCollisionsWith(SolidComponent.class);
+    final boolean wasClimbing =
+        oldState.state() == UP || oldState.state() == DOWN || oldState.state() == STOP_CLIMB;
+    final boolean wasInAir =
+        oldState.state() == JUMP || oldState.state() == FALL || oldState.state() == FAST_FALL;
+
+    switch (input.getCurrentHInput()) {
+      case MOVE_LEFT -> {
+        newDir = LEFT;
+        newDx = -PLAYER_VELOCITY;
+      }
+      case MOVE_RIGHT -> {
+        newDir = RIGHT;
+        newDx = PLAYER_VELOCITY;
+      }
+      default -> {
+        newDir = oldState.direction();
+        newDx = 0;
+      }
+    }
+
+    if (input.isJumpPressed()) {
+      if (isGrounded || (canClimb && !wasInAir)) {
+        newDy = JUMP_FACTOR * -gravity.gravity();
+        newState = JUMP;
+      } else {
+        newDy = oldDy;
+        newState = oldState.state();
+      }
+      input.setJumpPressed(false);
+    } else if (canClimb) {
+      if (input.getCurrentHInput() == HorizontalInput.NONE) {
+        snapToLadderCenter(entity, ladder);
+        switch (input.getCurrentVInput()) {
+          case MOVE_UP -> {
+            if (isAtTopOfLadder(entity, ladder)) {
+              snapToLadderTop(entity, ladder);
+              newDy = 0;
+              newState = IDLE;
+            } else {
+              newDy = oldDy - PLAYER_VELOCITY;
+              newState = UP;
+            }
+          }
+          case MOVE_DOWN -> {
+            newDy = oldDy + PLAYER_VELOCITY;
+            newState = DOWN;
+          }
+          default -> {
+            newDy = oldDy;
+            if (!wasInAir) {
+              newState = STOP_CLIMB;
+            } else {
+              newState = oldState.state();
+            }
+          }
+        }
+      } else {
+        if (wasClimbing) {
+          snapToLadderEdge(entity, ladder, new VelocityComponent(newDx, 0));
+          newState = FALL;
+        } else {
+          newState = oldState.state();
+        }
+        newDy = oldDy;
+      }
+    } else if (isGrounded) {
+      newDy = oldDy;
+      newState = input.getCurrentHInput() == HorizontalInput.NONE ? IDLE : MOVING;
+    } else if (input.getCurrentVInput() == InputComponent.VerticalInput.MOVE_DOWN) {
+      newDy = FALL_FACTOR * gravity.gravity();
+      newState = FAST_FALL;
+    } else {
+      newDy = oldDy;
+      if (oldState.state() == FAST_FALL) {
+        newDy = gravity.gravity();
+      }
+      newState = newDy < 0 ? JUMP : FALL;
+    }
+
+    motion.setVelocity(entity, newDx, newDy);
+    if (newState != oldState.state() || newDir != oldState.direction()) {
+      entity.updateComponent(new StateComponent(newState, newDir));
+    }
   }
 
   private boolean isAtTopOfLadder(Entity entity, Entity ladder) {
-    PositionComponent entityPos = entity.getComponent(PositionComponent.class).orElseThrow();
-    PositionComponent ladderPos = ladder.getComponent(PositionComponent.class).orElseThrow();
-    Collider ladderCollider = ladder.getComponent(Collider.class).orElseThrow();
+    PositionComponent entityPos = entity.requireComponent(PositionComponent.class);
+    PositionComponent ladderPos = ladder.requireComponent(PositionComponent.class);
+    Collider ladderCollider = ladder.requireComponent(Collider.class);
 
     if (ladderCollider instanceof RectangleCollider rectCollider) {
       final double ladderHalfHeight = rectCollider.height() / 2.0;
@@ -147,15 +147,15 @@ public class InputSystem implements GameSystem {
   }
 
   private void snapToLadderCenter(Entity entity, Entity ladder) {
-    PositionComponent entityPos = entity.getComponent(PositionComponent.class).orElseThrow();
-    PositionComponent ladderPos = ladder.getComponent(PositionComponent.class).orElseThrow();
+    PositionComponent entityPos = entity.requireComponent(PositionComponent.class);
+    PositionComponent ladderPos = ladder.requireComponent(PositionComponent.class);
     entity.updateComponent(new PositionComponent(ladderPos.x(), entityPos.y()));
   }
 
   private void snapToLadderEdge(Entity entity, Entity ladder, VelocityComponent velocity) {
-    PositionComponent entityPos = entity.getComponent(PositionComponent.class).orElseThrow();
-    PositionComponent ladderPos = ladder.getComponent(PositionComponent.class).orElseThrow();
-    Collider ladderCollider = ladder.getComponent(Collider.class).orElseThrow();
+    PositionComponent entityPos = entity.requireComponent(PositionComponent.class);
+    PositionComponent ladderPos = ladder.requireComponent(PositionComponent.class);
+    Collider ladderCollider = ladder.requireComponent(Collider.class);
 
     if (ladderCollider instanceof RectangleCollider rectCollider) {
       final double ladderHalfWidth = rectCollider.width() / 2.0;
@@ -167,10 +167,10 @@ public class InputSystem implements GameSystem {
   }
 
   private void snapToLadderTop(Entity entity, Entity ladder) {
-    PositionComponent entityPos = entity.getComponent(PositionComponent.class).orElseThrow();
-    PositionComponent ladderPos = ladder.getComponent(PositionComponent.class).orElseThrow();
-    Collider ladderCollider = ladder.getComponent(Collider.class).orElseThrow();
-    Collider entityCollider = entity.getComponent(Collider.class).orElseThrow();
+    PositionComponent entityPos = entity.requireComponent(PositionComponent.class);
+    PositionComponent ladderPos = ladder.requireComponent(PositionComponent.class);
+    Collider ladderCollider = ladder.requireComponent(Collider.class);
+    Collider entityCollider = entity.requireComponent(Collider.class);
 
     if (ladderCollider instanceof RectangleCollider rectCollider) {
       final double ladderTop = ladderPos.y() - rectCollider.height() / 2.0;
@@ -179,4 +179,23 @@ public class InputSystem implements GameSystem {
       entity.updateComponent(new PositionComponent(entityPos.x(), newY));
     }
   }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(
+        CollisionEventComponent.class,
+        GravityComponent.class,
+        ClimbableComponent.class,
+        SolidComponent.class,
+        Collider.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(
+        InputComponent.class,
+        VelocityComponent.class,
+        StateComponent.class,
+        PositionComponent.class);
+  }
 }
@@ -1,8 +1,10 @@
 package it.unibo.donkeykong.ecs.system;
 
+import it.unibo.donkeykong.core.api.MotionView;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
 import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
 import java.util.List;
@@ -14,61 +16,67 @@ import java.util.Set;
  */
 public class PhysicsSystem implements GameSystem {
 
-  private static void resetVerticalVelocity(Entity entity) {
-    entity
-        .getComponent(VelocityComponent.class)
-        .ifPresent(velocity -> entity.updateComponent(new VelocityComponent(velocity.dx(), 0)));
-  }
+  private static final List<Class<? extends Component>> COLLIDING_BODIES =
+      List.of(
+          CollisionEventComponent.class,
+          PositionComponent.class,
+          VelocityComponent.class,
+          Collider.class);
 
-  private static void handleCollision(Entity entity, Entity otherEntity) {
-    PositionComponent position = entity.getComponent(PositionComponent.class).orElseThrow();
-    Collider collider = entity.getComponent(Collider.class).orElseThrow();
-    PositionComponent otherPosition =
-        otherEntity.getComponent(PositionComponent.class).orElseThrow();
-    Collider otherCollider = otherEntity.getComponent(Collider.class).orElseThrow();
-    double newX = position.x();
-    double newY = position.y();
+  private static void handleCollision(MotionView motion, Entity entity, Entity otherEntity) {
+    Collider collider = entity.requireComponent(Collider.class);
+    Collider otherCollider = otherEntity.requireComponent(Collider.class);
+    double x = motion.x(entity);
+    double y = motion.y(entity);
+    double newX = x;
+    double newY = y;
     double minDistanceX = (collider.width() + otherCollider.width()) / 2.0;
     double minDistanceY = (collider.height() + otherCollider.height()) / 2.0;
-    double actualDistanceX = position.x() - otherPosition.x();
-    double actualDistanceY = position.y() - otherPosition.y();
+    double actualDistanceX = x - motion.x(otherEntity);
+    double actualDistanceY = y - motion.y(otherEntity);
     double overlapX = minDistanceX - Math.abs(actualDistanceX);
     double overlapY = minDistanceY - Math.abs(actualDistanceY);
 
     if (overlapX > 0 && overlapY > 0) {
       if (overlapX < overlapY) {
-        newX = position.x() + (actualDistanceX > 0 ? overlapX : -overlapX);
+        newX = x + (actualDistanceX > 0 ? overlapX : -overlapX);
       } else {
-        newY = position.y() + (actualDistanceY > 0 ? overlapY : -overlapY);
+        newY = y + (actualDistanceY > 0 ? overlapY : -overlapY);
       }
     }
-    if (newX != position.x() || newY != position.y()) {
-      entity.updateComponent(new PositionComponent(newX, newY));
-      if (newY <= position.y()) {
-        resetVerticalVelocity(entity);
+    if (newX != x || newY != y) {
+      motion.setPosition(entity, newX, newY);
+      if (newY <= y) {
+        motion.setVelocity(entity, motion.dx(entity), 0);
       }
     }
   }
 
   @Override
   public void update(World world, float deltaTime) {
-    Set<Entity> targetEntities =
-        world.getEntitiesWithComponents(
-            List.of(
-                CollisionEventComponent.class,
-                PositionComponent.class,
-                VelocityComponent.class,
-                Collider.class));
-    targetEntities.forEach(
-        entity ->
-            entity
-                .getComponent(CollisionEventComponent.class)
-                .ifPresent(
-                    collisionEvent ->
-                        collisionEvent.getCollisionsWith(PositionComponent.class).stream()
-                            .filter(
-                                otherEntity ->
-                                    otherEntity.getComponent(SolidComponent.class).isPresent())
-                            .forEach(otherEntity -> handleCollision(entity, otherEntity))));
+    final MotionView motion = world.motion();
+    world
+        .query(COLLIDING_BODIES)
+        .forEach(
+            entity -> {
+              for (Entity otherEntity :
+                  entity
+                      .requireComponent(CollisionEventComponent.class)
+                      .getCollisionsWith(SolidComponent.class)) {
+                if (otherEntity.hasComponent(PositionComponent.class)) {
+                  handleCollision(motion, entity, otherEntity);
+                }
+              }
+            });
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(CollisionEventComponent.class, Collider.class, SolidComponent.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(PositionComponent.class, VelocityComponent.class);
   }
 }
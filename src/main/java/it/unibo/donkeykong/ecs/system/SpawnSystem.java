@@ -4,16 +4,41 @@ import static it.unibo.donkeykong.core.Constants.*;
 
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.StateComponent.*;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.Set;
 
+/**
+ * SpawnSystem spawns barrels at a regular interval, alternately rolling left and right. The barrels
+ * are created straight through the entity factory, so the system writes every component.
+ */
 public class SpawnSystem implements GameSystem {
   private final EntityFactory entityFactory;
+  private final float spawnInterval;
   private float elapsedTime;
   private double velocity;
 
   public SpawnSystem(EntityFactory entityFactory) {
+    this(entityFactory, SPAWN_INTERVAL);
+  }
+
+  /**
+   * Constructor for SpawnSystem, spawning barrels at a rate other than the one of the game. When
+   * the interval is shorter than an update, several barrels are spawned by the same update. The
+   * system carries the time left over from one spawn to the next itself, so it is meant to be
+   * updated on every tick rather than at a {@link it.unibo.donkeykong.core.api.SystemRate}.
+   *
+   * @param entityFactory the entity factory used to create the barrels
+   * @param spawnInterval the time between two barrels, in seconds
+   * @throws IllegalArgumentException if the interval is not positive
+   */
+  public SpawnSystem(EntityFactory entityFactory, float spawnInterval) {
+    if (spawnInterval <= 0) {
+      throw new IllegalArgumentException("Spawn interval must be positive: " + spawnInterval);
+    }
     this.entityFactory = entityFactory;
+    this.spawnInterval = spawnInterval;
     this.elapsedTime = 0;
     this.velocity = -BARREL_VELOCITY;
   }
@@ -21,10 +46,20 @@ public class SpawnSystem implements GameSystem {
   @Override
   public void update(World world, float deltaTime) {
     this.elapsedTime += deltaTime;
-    if (this.elapsedTime >= SPAWN_INTERVAL) {
+    while (this.elapsedTime >= spawnInterval) {
       entityFactory.createBarrel(velocity);
       velocity = -velocity;
-      elapsedTime = 0;
+      elapsedTime -= spawnInterval;
     }
   }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of();
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(Component.class);
+  }
 }
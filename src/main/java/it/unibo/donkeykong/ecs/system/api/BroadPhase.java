@@ -0,0 +1,57 @@
+package it.unibo.donkeykong.ecs.system.api;
+
+import it.unibo.donkeykong.core.api.MotionView;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+
+/**
+ * Broad phase of the collision detection, narrowing the bodies of a world, the entities having a
+ * position and a collider, down to those a body may collide with, so that the exact test only
+ * runs on them. A broad phase may report bodies that do not collide, but never leaves out one that
+ * does, and reports the candidates in the order the world iterates the bodies, so that every broad
+ * phase leads to the same collisions. Positions are given as coordinates, as the {@link
+ * MotionView} of the world reads them, so that no storage layout has to build a {@link
+ * PositionComponent} for them.
+ *
+ * <p>A broad phase holds the state of a single collision system, and is not meant to be shared
+ * between threads.
+ */
+public interface BroadPhase {
+
+  /** Action performed by a broad phase on each candidate of a lookup. */
+  @FunctionalInterface
+  interface CandidateConsumer {
+
+    /**
+     * Performs this action on a candidate.
+     *
+     * @param entity the candidate
+     * @param x the x-coordinate of the candidate
+     * @param y the y-coordinate of the candidate
+     * @param collider the collider of the candidate
+     */
+    void accept(Entity entity, double x, double y, Collider collider);
+  }
+
+  /**
+   * Brings the broad phase up to date with the bodies of a world, before the candidates of an
+   * update are looked up. Bodies moved, added or removed afterwards are not seen until the next
+   * call.
+   *
+   * @param world the world whose bodies are looked up
+   */
+  void update(World world);
+
+  /**
+   * Performs an action on every body that may collide with the given one, the body itself
+   * included if it is in the world.
+   *
+   * @param x the x-coordinate of the body
+   * @param y the y-coordinate of the body
+   * @param collider the collider of the body
+   * @param action the action to perform, receiving each candidate with its position and collider
+   */
+  void forEachCandidate(double x, double y, Collider collider, CandidateConsumer action);
+}
@@ -1,11 +1,18 @@
 package it.unibo.donkeykong.ecs.system.api;
 
 import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import java.util.Set;
 
 /**
  * This interface represents a system in the ECS (Entity-Component-System) architecture. A System is
  * responsible for processing entities that possess specific components, applying game logic, and
  * updating the state of those entities accordingly.
+ *
+ * <p>A system may declare the component classes it reads and writes, so that the world can update
+ * it at the same time as the systems it does not conflict with. A system that declares nothing is
+ * assumed to access every component, and is always updated alone on the thread calling {@link
+ * World#update}.
  */
 public interface GameSystem {
   /**
@@ -15,4 +22,26 @@ public interface GameSystem {
    * @param deltaTime the time elapsed since the last update, in seconds
    */
   void update(World world, float deltaTime);
+
+  /**
+   * Gets the component classes this system reads without writing them, including those it only
+   * checks the presence of.
+   *
+   * @return the component classes read by this system
+   */
+  default Set<Class<? extends Component>> reads() {
+    return Set.of(Component.class);
+  }
+
+  /**
+   * Gets the component classes this system writes, in place or by replacing them, and the classes
+   * of the components it adds, removes, or creates entities with. A system removing whole entities
+   * writes {@link Component} itself. Structural changes must go through {@link World#commands()},
+   * unless the system writes {@link Component}.
+   *
+   * @return the component classes written by this system
+   */
+  default Set<Class<? extends Component>> writes() {
+    return Set.of(Component.class);
+  }
 }
@@ -0,0 +1,39 @@
+package it.unibo.donkeykong.ecs.system.common;
+
+import it.unibo.donkeykong.core.api.MotionView;
+import it.unibo.donkeykong.core.api.Query;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.system.api.BroadPhase;
+import java.util.List;
+
+/**
+ * Broad phase reporting every body of the world as a candidate, looking up its components on each
+ * lookup. Kept as the baseline the other broad phases are measured against.
+ */
+public final class BruteForceBroadPhase implements BroadPhase {
+
+  private static final List<Class<? extends Component>> BODIES =
+      List.of(PositionComponent.class, Collider.class);
+
+  private Query bodies;
+  private MotionView motion;
+
+  @Override
+  public void update(final World world) {
+    this.bodies = world.query(BODIES);
+    this.motion = world.motion();
+  }
+
+  @Override
+  public void forEachCandidate(
+      final double x, final double y, final Collider collider, final CandidateConsumer action) {
+    for (final Entity body : this.bodies) {
+      action.accept(
+          body, this.motion.x(body), this.motion.y(body), body.requireComponent(Collider.class));
+    }
+  }
+}
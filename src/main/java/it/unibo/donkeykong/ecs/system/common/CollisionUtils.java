@@ -55,9 +55,9 @@ public final class CollisionUtils {
    * @return true if the entities are aligned, false otherwise
    */
   public static boolean areAligned(Entity entity, Entity other) {
-    PositionComponent entityPos = entity.getComponent(PositionComponent.class).orElseThrow();
-    PositionComponent otherPos = other.getComponent(PositionComponent.class).orElseThrow();
-    Collider otherCollider = other.getComponent(Collider.class).orElseThrow();
+    PositionComponent entityPos = entity.requireComponent(PositionComponent.class);
+    PositionComponent otherPos = other.requireComponent(PositionComponent.class);
+    Collider otherCollider = other.requireComponent(Collider.class);
     if (!(otherCollider instanceof RectangleCollider rectCollider)) {
       return false;
     }
@@ -66,35 +66,43 @@ public final class CollisionUtils {
     return horizontalDistance < otherHalfWidth;
   }
 
+  private static double distance(double x, double y, double otherX, double otherY) {
+    return Math.sqrt(Math.pow(x - otherX, 2) + Math.pow(y - otherY, 2));
+  }
+
   private static boolean checkCollision(
-      PositionComponent rectanglePosition,
+      double rectangleX,
+      double rectangleY,
       RectangleCollider rectangleCollider,
-      PositionComponent circlePosition,
+      double circleX,
+      double circleY,
       CircleCollider circleCollider) {
-    return checkCollision(
-        circlePosition,
-        circleCollider,
-        clampOnRectangle(circlePosition, rectanglePosition, rectangleCollider),
-        new CircleCollider(0));
+    double halfWidth = rectangleCollider.width() / 2.0;
+    double halfHeight = rectangleCollider.height() / 2.0;
+    double closestX = clampOnRange(circleX, rectangleX - halfWidth, rectangleX + halfWidth);
+    double closestY = clampOnRange(circleY, rectangleY - halfHeight, rectangleY + halfHeight);
+    return distance(circleX, circleY, closestX, closestY) <= circleCollider.radius();
   }
 
   private static boolean checkCollision(
-      PositionComponent position,
+      double x,
+      double y,
       CircleCollider collider,
-      PositionComponent otherPosition,
+      double otherX,
+      double otherY,
       CircleCollider otherCollider) {
-    return position.distanceFrom(otherPosition) <= (collider.radius() + otherCollider.radius());
+    return distance(x, y, otherX, otherY) <= (collider.radius() + otherCollider.radius());
   }
 
   private static boolean checkCollision(
-      PositionComponent position,
+      double x,
+      double y,
       RectangleCollider collider,
-      PositionComponent otherPosition,
+      double otherX,
+      double otherY,
       RectangleCollider otherCollider) {
-    return Math.abs(position.x() - otherPosition.x())
-            <= (collider.width() + otherCollider.width()) / 2.0
-        && Math.abs(position.y() - otherPosition.y())
-            <= (collider.height() + otherCollider.height()) / 2.0;
+    return Math.abs(x - otherX) <= (collider.width() + otherCollider.width()) / 2.0
+        && Math.abs(y - otherY) <= (collider.height() + otherCollider.height()) / 2.0;
   }
 
   /**
@@ -111,18 +119,41 @@ public final class CollisionUtils {
       Collider collider,
       PositionComponent otherPosition,
       Collider otherCollider) {
+    return isColliding(
+        position.x(), position.y(), collider, otherPosition.x(), otherPosition.y(), otherCollider);
+  }
+
+  /**
+   * Checks if two entities are colliding based on their coordinates and collider components,
+   * without building any component.
+   *
+   * @param x the x-coordinate of the first entity
+   * @param y the y-coordinate of the first entity
+   * @param collider the collider of the first entity
+   * @param otherX the x-coordinate of the second entity
+   * @param otherY the y-coordinate of the second entity
+   * @param otherCollider the collider of the second entity
+   * @return true if the entities are colliding, false otherwise
+   */
+  public static boolean isColliding(
+      double x,
+      double y,
+      Collider collider,
+      double otherX,
+      double otherY,
+      Collider otherCollider) {
     if (collider instanceof RectangleCollider rectangleCollider
         && otherCollider instanceof RectangleCollider otherRectangleCollider) {
-      return checkCollision(position, rectangleCollider, otherPosition, otherRectangleCollider);
+      return checkCollision(x, y, rectangleCollider, otherX, otherY, otherRectangleCollider);
     } else if (collider instanceof RectangleCollider rectangleCollider
         && otherCollider instanceof CircleCollider circleCollider) {
-      return checkCollision(position, rectangleCollider, otherPosition, circleCollider);
+      return checkCollision(x, y, rectangleCollider, otherX, otherY, circleCollider);
     } else if (collider instanceof CircleCollider circleCollider
         && otherCollider instanceof RectangleCollider rectangleCollider) {
-      return checkCollision(otherPosition, rectangleCollider, position, circleCollider);
+      return checkCollision(otherX, otherY, rectangleCollider, x, y, circleCollider);
     } else if (collider instanceof CircleCollider circleCollider
         && otherCollider instanceof CircleCollider otherCircleCollider) {
-      return checkCollision(position, circleCollider, otherPosition, otherCircleCollider);
+      return checkCollision(x, y, circleCollider, otherX, otherY, otherCircleCollider);
     } else {
       throw new IllegalArgumentException("One or more unknown collider types");
     }
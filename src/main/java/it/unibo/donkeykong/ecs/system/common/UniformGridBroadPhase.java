@@ -0,0 +1,193 @@
+package it.unibo.donkeykong.ecs.system.common;
+
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.api.MotionView;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.system.api.BroadPhase;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Broad phase splitting the world, {@link Constants#WORLD_WIDTH} by {@link
+ * Constants#WORLD_HEIGHT}, into a grid of square cells, and reporting as candidates the bodies
+ * whose bounding box shares a cell with the one of the looked up body. Bodies out of the world are
+ * kept in the cells on its border, so they are still found, only less selectively.
+ *
+ * <p>The grid is rebuilt on every update, reading the positions in place through the {@link
+ * MotionView} of the world, so no storage layout builds a {@link PositionComponent} for them: the
+ * bodies are numbered in the order the world iterates them, and each cell lists the numbers of the
+ * bodies it holds in one shared array, so nothing is allocated once the arrays have grown to the
+ * size of the world.
+ */
+public final class UniformGridBroadPhase implements BroadPhase {
+
+  /** Default size of the cells, in world units, about the size of a player. */
+  public static final int DEFAULT_CELL_SIZE = 64;
+
+  private static final List<Class<? extends Component>> BODIES =
+      List.of(PositionComponent.class, Collider.class);
+  private static final int INITIAL_CAPACITY = 256;
+
+  private final double cellSize;
+  private final int columns;
+  private final int rows;
+  private final int[] cellStart;
+  private final int[] cellCursor;
+  private final int[] range;
+  private int[] cellBodies;
+  private Entity[] entities;
+  private double[] xs;
+  private double[] ys;
+  private Collider[] colliders;
+  private int[] bounds;
+  private int[] lastLookup;
+  private int[] candidates;
+  private int count;
+  private int lookup;
+
+  /** Constructor for UniformGridBroadPhase, with cells of the {@link #DEFAULT_CELL_SIZE}. */
+  public UniformGridBroadPhase() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * Constructor for UniformGridBroadPhase.
+   *
+   * @param cellSize the size of the side of the cells, in world units
+   * @throws IllegalArgumentException if the size is not positive
+   */
+  public UniformGridBroadPhase(final int cellSize) {
+    if (cellSize <= 0) {
+      throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+    }
+    this.cellSize = cellSize;
+    this.columns = (Constants.WORLD_WIDTH + cellSize - 1) / cellSize;
+    this.rows = (Constants.WORLD_HEIGHT + cellSize - 1) / cellSize;
+    this.cellStart = new int[this.columns * this.rows + 1];
+    this.cellCursor = new int[this.columns * this.rows];
+    this.range = new int[4];
+    this.cellBodies = new int[INITIAL_CAPACITY];
+    this.entities = new Entity[INITIAL_CAPACITY];
+    this.xs = new double[INITIAL_CAPACITY];
+    this.ys = new double[INITIAL_CAPACITY];
+    this.colliders = new Collider[INITIAL_CAPACITY];
+    this.bounds = new int[INITIAL_CAPACITY * 4];
+    this.lastLookup = new int[INITIAL_CAPACITY];
+    this.candidates = new int[INITIAL_CAPACITY];
+  }
+
+  @Override
+  public void update(final World world) {
+    Arrays.fill(this.entities, 0, this.count, null);
+    Arrays.fill(this.colliders, 0, this.count, null);
+    this.count = 0;
+    final MotionView motion = world.motion();
+    for (final Entity entity : world.query(BODIES)) {
+      add(
+          entity,
+          motion.x(entity),
+          motion.y(entity),
+          world.getComponentOfEntity(entity, Collider.class));
+    }
+    Arrays.fill(this.lastLookup, 0, this.count, 0);
+    this.lookup = 0;
+    Arrays.fill(this.cellStart, 0);
+    int cellEntries = 0;
+    for (int body = 0; body < this.count; body++) {
+      for (int row = this.bounds[body * 4 + 2]; row <= this.bounds[body * 4 + 3]; row++) {
+        for (int column = this.bounds[body * 4]; column <= this.bounds[body * 4 + 1]; column++) {
+          this.cellStart[row * this.columns + column + 1]++;
+          cellEntries++;
+        }
+      }
+    }
+    for (int cell = 1; cell < this.cellStart.length; cell++) {
+      this.cellStart[cell] += this.cellStart[cell - 1];
+    }
+    if (this.cellBodies.length < cellEntries) {
+      this.cellBodies = new int[Math.max(cellEntries, this.cellBodies.length * 2)];
+    }
+    System.arraycopy(this.cellStart, 0, this.cellCursor, 0, this.cellCursor.length);
+    for (int body = 0; body < this.count; body++) {
+      for (int row = this.bounds[body * 4 + 2]; row <= this.bounds[body * 4 + 3]; row++) {
+        for (int column = this.bounds[body * 4]; column <= this.bounds[body * 4 + 1]; column++) {
+          this.cellBodies[this.cellCursor[row * this.columns + column]++] = body;
+        }
+      }
+    }
+  }
+
+  private void add(final Entity entity, final double x, final double y, final Collider collider) {
+    if (this.count == this.entities.length) {
+      final int capacity = this.count * 2;
+      this.entities = Arrays.copyOf(this.entities, capacity);
+      this.xs = Arrays.copyOf(this.xs, capacity);
+      this.ys = Arrays.copyOf(this.ys, capacity);
+      this.colliders = Arrays.copyOf(this.colliders, capacity);
+      this.bounds = Arrays.copyOf(this.bounds, capacity * 4);
+      this.lastLookup = Arrays.copyOf(this.lastLookup, capacity);
+    }
+    this.entities[this.count] = entity;
+    this.xs[this.count] = x;
+    this.ys[this.count] = y;
+    this.colliders[this.count] = collider;
+    cellRange(x, y, collider, this.bounds, this.count * 4);
+    this.count++;
+  }
+
+  @Override
+  public void forEachCandidate(
+      final double x, final double y, final Collider collider, final CandidateConsumer action) {
+    cellRange(x, y, collider, this.range, 0);
+    if (this.range[0] == this.range[1] && this.range[2] == this.range[3]) {
+      final int cell = this.range[2] * this.columns + this.range[0];
+      for (int i = this.cellStart[cell]; i < this.cellStart[cell + 1]; i++) {
+        accept(this.cellBodies[i], action);
+      }
+      return;
+    }
+    this.lookup++;
+    int found = 0;
+    for (int row = this.range[2]; row <= this.range[3]; row++) {
+      for (int column = this.range[0]; column <= this.range[1]; column++) {
+        final int cell = row * this.columns + column;
+        for (int i = this.cellStart[cell]; i < this.cellStart[cell + 1]; i++) {
+          final int body = this.cellBodies[i];
+          if (this.lastLookup[body] != this.lookup) {
+            this.lastLookup[body] = this.lookup;
+            if (found == this.candidates.length) {
+              this.candidates = Arrays.copyOf(this.candidates, found * 2);
+            }
+            this.candidates[found++] = body;
+          }
+        }
+      }
+    }
+    Arrays.sort(this.candidates, 0, found);
+    for (int i = 0; i < found; i++) {
+      accept(this.candidates[i], action);
+    }
+  }
+
+  private void accept(final int body, final CandidateConsumer action) {
+    action.accept(this.entities[body], this.xs[body], this.ys[body], this.colliders[body]);
+  }
+
+  private void cellRange(
+      final double x, final double y, final Collider collider, final int[] range, final int at) {
+    final double halfWidth = collider.width() / 2.0;
+    final double halfHeight = collider.height() / 2.0;
+    range[at] = cell(x - halfWidth, this.columns);
+    range[at + 1] = cell(x + halfWidth, this.columns);
+    range[at + 2] = cell(y - halfHeight, this.rows);
+    range[at + 3] = cell(y + halfHeight, this.rows);
+  }
+
+  private int cell(final double coordinate, final int cells) {
+    return (int) Math.max(0, Math.min(cells - 1, Math.floor(coordinate / this.cellSize)));
+  }
+}
@@ -0,0 +1,233 @@
+package it.unibo.donkeykong.headless;
+
+import io.vertx.core.Vertx;
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.StorageLayout;
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import it.unibo.donkeykong.metrics.MetricsServer;
+import it.unibo.donkeykong.metrics.SystemMetrics;
+import it.unibo.donkeykong.replay.InputRecorder;
+import it.unibo.donkeykong.replay.InputRecording;
+import it.unibo.donkeykong.replay.WorldDigest;
+import it.unibo.donkeykong.scenario.Scenario;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Entry point running the game without a display. The run is configured by the arguments:
+ *
+ * <ul>
+ *   <li>{@code --ticks=N} stops after {@code N} steps, instead of running forever;
+ *   <li>{@code --rate=HZ} runs {@code HZ} steps per second, or as fast as possible if {@code 0};
+ *   <li>{@code --layout=NAME} stores the components with the given {@link StorageLayout};
+ *   <li>{@code --parallel} updates the systems that do not conflict at the same time, except in
+ *       hosted matches, which must stay on the thread they are pinned to;
+ *   <li>{@code --matches=N} hosts {@code N} independent matches on a {@link MatchHost}, for the
+ *       time {@code --ticks} steps take at {@code --rate}, and reports their tick lateness;
+ *   <li>{@code --threads=N} sets the number of tick threads of the host, one per core by default;
+ *   <li>{@code --metrics=PORT} measures the system updates and serves the metrics over HTTP, see
+ *       {@link MetricsServer};
+ *   <li>{@code --record=FILE} saves the inputs of the players as an {@link InputRecording};
+ *   <li>{@code --replay=FILE} replays a recording as fast as possible, instead of running the game,
+ *       and checks that it ends in the recorded state;
+ *   <li>{@code --scenario=SPEC} plays the synthetic {@link Scenario} written as {@code SPEC} in
+ *       place of the map of the game, in every match and in the recording or replay.
+ * </ul>
+ */
+public final class HeadlessLauncher {
+
+  private HeadlessLauncher() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Runs the headless game.
+   *
+   * @param args the arguments of the run
+   * @throws IOException if a recording cannot be read or written
+   */
+  public static void main(final String[] args) throws IOException {
+    long ticks = Long.MAX_VALUE;
+    int rate = Constants.TICK_RATE;
+    StorageLayout layout = StorageLayout.OBJECTS;
+    boolean parallel = false;
+    int matches = 0;
+    int threads = Runtime.getRuntime().availableProcessors();
+    int metricsPort = -1;
+    Path record = null;
+    Path replay = null;
+    Scenario scenario = null;
+    for (final String arg : args) {
+      final String value = arg.substring(arg.indexOf('=') + 1);
+      if (arg.startsWith("--ticks=")) {
+        ticks = Long.parseLong(value);
+      } else if (arg.startsWith("--rate=")) {
+        rate = Integer.parseInt(value);
+      } else if (arg.startsWith("--layout=")) {
+        layout = StorageLayout.valueOf(value.toUpperCase(Locale.ROOT));
+      } else if (arg.equals("--parallel")) {
+        parallel = true;
+      } else if (arg.startsWith("--matches=")) {
+        matches = Integer.parseInt(value);
+      } else if (arg.startsWith("--threads=")) {
+        threads = Integer.parseInt(value);
+      } else if (arg.startsWith("--metrics=")) {
+        metricsPort = Integer.parseInt(value);
+      } else if (arg.startsWith("--record=")) {
+        record = Path.of(value);
+      } else if (arg.startsWith("--replay=")) {
+        replay = Path.of(value);
+      } else if (arg.startsWith("--scenario=")) {
+        scenario = Scenario.parse(value);
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+    if (parallel && matches > 0) {
+      throw new IllegalArgumentException("Hosted matches cannot run with --parallel");
+    }
+    final SystemMetrics metrics = metricsPort >= 0 ? new SystemMetrics() : null;
+    final Vertx vertx = metrics != null ? Vertx.vertx() : null;
+    if (vertx != null) {
+      MetricsServer.start(vertx, metrics, metricsPort)
+          .onSuccess(server -> System.out.println("Serving metrics on port " + server.actualPort()))
+          .onFailure(Throwable::printStackTrace);
+    }
+    final Supplier<World> worlds =
+        worldSupplier(layout, parallel ? ForkJoinPool.commonPool() : null, metrics);
+    try {
+      if (replay != null) {
+        replay(InputRecording.load(replay), worlds, scenario);
+      } else if (matches > 0) {
+        host(matches, threads, rate, ticks, worlds, scenario);
+      } else {
+        run(ticks, rate, worlds, scenario, record);
+      }
+    } finally {
+      if (vertx != null) {
+        vertx.close();
+      }
+    }
+  }
+
+  private static Supplier<World> worldSupplier(
+      final StorageLayout layout, final ForkJoinPool pool, final SystemMetrics metrics) {
+    return () -> {
+      final WorldImpl world = new WorldImpl(layout, pool);
+      world.setSystemListener(metrics);
+      return world;
+    };
+  }
+
+  private static HeadlessSimulation simulation(
+      final World world, final Scenario scenario, final List<GameSystem> recorders) {
+    if (scenario == null) {
+      return new HeadlessSimulation(world, recorders);
+    }
+    final List<GameSystem> inputSystems = new ArrayList<>(scenario.inputSystems());
+    inputSystems.addAll(recorders);
+    return new HeadlessSimulation(world, scenario, inputSystems);
+  }
+
+  private static void run(
+      final long ticks,
+      final int rate,
+      final Supplier<World> worlds,
+      final Scenario scenario,
+      final Path record)
+      throws IOException {
+    final InputRecorder recorder = record != null ? new InputRecorder() : null;
+    final HeadlessSimulation simulation =
+        simulation(worlds.get(), scenario, recorder != null ? List.of(recorder) : List.of());
+    final long start = System.nanoTime();
+    if (rate > 0) {
+      simulation.runPaced(ticks, rate);
+    } else {
+      simulation.runUnpaced(ticks);
+    }
+    final double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.printf(
+        Locale.ROOT,
+        "Ran %d ticks in %.3f s (%.0f ticks/s)%n",
+        simulation.ticks(),
+        seconds,
+        simulation.ticks() / seconds);
+    if (recorder != null) {
+      recorder.finish(simulation.world()).save(record);
+    }
+  }
+
+  private static void replay(
+      final InputRecording recording, final Supplier<World> worlds, final Scenario scenario) {
+    final long start = System.nanoTime();
+    final HeadlessSimulation simulation =
+        scenario != null
+            ? HeadlessSimulation.replay(worlds.get(), scenario, recording)
+            : HeadlessSimulation.replay(worlds.get(), recording);
+    final double seconds = (System.nanoTime() - start) / 1e9;
+    final boolean matching = WorldDigest.of(simulation.world()) == recording.digest();
+    System.out.printf(
+        Locale.ROOT,
+        "Replayed %d ticks in %.3f s (%.0f ticks/s), final state %s%n",
+        simulation.ticks(),
+        seconds,
+        simulation.ticks() / seconds,
+        matching ? "matches the recording" : "differs from the recording");
+  }
+
+  private static void host(
+      final int matchCount,
+      final int threads,
+      final int rate,
+      final long ticks,
+      final Supplier<World> worlds,
+      final Scenario scenario) {
+    if (rate <= 0 || ticks == Long.MAX_VALUE) {
+      throw new IllegalArgumentException("Hosted matches need a positive --rate and --ticks");
+    }
+    final List<Match> matches = new ArrayList<>(matchCount);
+    try (MatchHost host = new MatchHost(threads)) {
+      for (int i = 0; i < matchCount; i++) {
+        matches.add(host.host(simulation(worlds.get(), scenario, List.of()).world(), rate));
+      }
+      sleep(TimeUnit.SECONDS.toNanos(ticks) / rate);
+    }
+    long total = 0;
+    long skipped = 0;
+    long worstMean = 0;
+    long worstMax = 0;
+    for (final Match match : matches) {
+      final MatchStats stats = match.stats();
+      total += stats.ticks();
+      skipped += stats.skippedTicks();
+      worstMean = Math.max(worstMean, stats.meanLatenessNanos());
+      worstMax = Math.max(worstMax, stats.maxLatenessNanos());
+    }
+    System.out.printf(
+        Locale.ROOT,
+        "Hosted %d matches on %d threads: %d ticks, %d skipped, worst mean lateness %.3f ms,"
+            + " worst max lateness %.3f ms%n",
+        matchCount,
+        threads,
+        total,
+        skipped,
+        worstMean / 1e6,
+        worstMax / 1e6);
+  }
+
+  private static void sleep(final long nanos) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
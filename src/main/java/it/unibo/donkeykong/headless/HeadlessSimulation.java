@@ -0,0 +1,168 @@
+package it.unibo.donkeykong.headless;
+
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.FixedStepLoop;
+import it.unibo.donkeykong.core.GameSetup;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import it.unibo.donkeykong.replay.InputRecording;
+import it.unibo.donkeykong.replay.InputReplayer;
+import it.unibo.donkeykong.scenario.Scenario;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Game simulated without any display: the world is built and updated exactly as in the graphical
+ * game, minus the systems serving the display, so it never loads a JavaFX class.
+ */
+public class HeadlessSimulation {
+
+  private final World world;
+  private long ticks;
+
+  /**
+   * Constructor for HeadlessSimulation, populating the world and adding the simulation systems.
+   *
+   * @param world an empty world to simulate the game in
+   */
+  public HeadlessSimulation(final World world) {
+    this(world, List.of());
+  }
+
+  /**
+   * Constructor for HeadlessSimulation, with systems driving the inputs of the players, such as an
+   * {@link it.unibo.donkeykong.replay.InputRecorder} or an {@link InputReplayer}.
+   *
+   * @param world an empty world to simulate the game in
+   * @param inputSystems the systems updated before the simulation systems
+   */
+  public HeadlessSimulation(final World world, final List<GameSystem> inputSystems) {
+    this(world, GameSetup::populate, inputSystems, GameSetup::addSimulationSystems);
+  }
+
+  /**
+   * Constructor for HeadlessSimulation, populating the world with a {@link Scenario} in place of
+   * the map of the game, its players driven by the input systems of the scenario.
+   *
+   * @param world an empty world to simulate the scenario in
+   * @param scenario the scenario to simulate
+   */
+  public HeadlessSimulation(final World world, final Scenario scenario) {
+    this(world, scenario, scenario.inputSystems());
+  }
+
+  /**
+   * Constructor for HeadlessSimulation, populating the world with a {@link Scenario}, its players
+   * driven by the given systems.
+   *
+   * @param world an empty world to simulate the scenario in
+   * @param scenario the scenario to simulate
+   * @param inputSystems the systems updated before the simulation systems
+   */
+  public HeadlessSimulation(
+      final World world, final Scenario scenario, final List<GameSystem> inputSystems) {
+    this(world, scenario::populate, inputSystems, scenario::addSimulationSystems);
+  }
+
+  private HeadlessSimulation(
+      final World world,
+      final Function<World, EntityFactory> populate,
+      final List<GameSystem> inputSystems,
+      final BiConsumer<World, EntityFactory> simulationSystems) {
+    this.world = world;
+    this.ticks = 0;
+    final EntityFactory entityFactory = populate.apply(world);
+    inputSystems.forEach(world::addSystem);
+    simulationSystems.accept(world, entityFactory);
+  }
+
+  /**
+   * Replays a recording as fast as possible, through the same systems as the recorded match.
+   *
+   * @param world an empty world to replay the recording in
+   * @param recording the recording to replay
+   * @return the simulation, at the end of the recording
+   */
+  public static HeadlessSimulation replay(final World world, final InputRecording recording) {
+    return replay(new HeadlessSimulation(world, List.of(new InputReplayer(recording))), recording);
+  }
+
+  /**
+   * Replays a recording of a {@link Scenario} as fast as possible, the recorded inputs taking the
+   * place of the input systems of the scenario.
+   *
+   * @param world an empty world to replay the recording in
+   * @param scenario the scenario the recording was made in
+   * @param recording the recording to replay
+   * @return the simulation, at the end of the recording
+   */
+  public static HeadlessSimulation replay(
+      final World world, final Scenario scenario, final InputRecording recording) {
+    return replay(
+        new HeadlessSimulation(world, scenario, List.of(new InputReplayer(recording))), recording);
+  }
+
+  private static HeadlessSimulation replay(
+      final HeadlessSimulation simulation, final InputRecording recording) {
+    simulation.runUnpaced(recording.ticks().size(), recording.deltaTime());
+    return simulation;
+  }
+
+  /**
+   * Gets the world being simulated.
+   *
+   * @return the world of the simulation
+   */
+  public World world() {
+    return this.world;
+  }
+
+  /**
+   * Gets the number of steps run so far.
+   *
+   * @return the number of steps run
+   */
+  public long ticks() {
+    return this.ticks;
+  }
+
+  /**
+   * Runs steps one after another as fast as possible, each simulating the time of a step of the
+   * graphical game.
+   *
+   * @param steps the number of steps to run
+   */
+  public void runUnpaced(final long steps) {
+    runUnpaced(steps, 1f / Constants.TICK_RATE);
+  }
+
+  private void runUnpaced(final long steps, final float stepSeconds) {
+    for (long step = 0; step < steps; step++) {
+      this.world.update(stepSeconds);
+      this.ticks++;
+    }
+  }
+
+  /**
+   * Runs steps in real time, at a fixed rate, sleeping between them. A host falling behind catches
+   * up as the graphical game does, so the run may end a few steps past the requested number.
+   *
+   * @param steps the number of steps to run
+   * @param tickRate the number of steps per second
+   */
+  public void runPaced(final long steps, final int tickRate) {
+    final FixedStepLoop loop =
+        new FixedStepLoop(this.world, tickRate, Constants.MAX_STEPS_PER_FRAME);
+    final long stepNanos = 1_000_000_000L / tickRate;
+    loop.advanceTo(System.nanoTime());
+    long done = 0;
+    while (done < steps) {
+      LockSupport.parkNanos((long) ((1 - loop.alpha()) * stepNanos));
+      done += loop.advanceTo(System.nanoTime());
+    }
+    this.ticks += done;
+  }
+}
@@ -0,0 +1,138 @@
+package it.unibo.donkeykong.headless;
+
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.api.World;
+import java.util.Optional;
+
+/**
+ * Match hosted by a {@link MatchHost}: a world updated at a fixed rate by the tick thread the match
+ * is pinned to. Each tick has a deadline, one period after the previous one, and the thread always
+ * runs the tick of its match with the earliest deadline.
+ */
+public final class Match {
+
+  private final World world;
+  private final int thread;
+  private final long periodNanos;
+  private final float stepSeconds;
+  private long deadline;
+  private volatile boolean stopped;
+  private volatile RuntimeException failure;
+  private long ticks;
+  private long skippedTicks;
+  private long totalLatenessNanos;
+  private long maxLatenessNanos;
+
+  /**
+   * Constructor for Match.
+   *
+   * @param world the world of the match
+   * @param thread the index of the tick thread running the match
+   * @param tickRate the number of ticks per second
+   * @param start the deadline of the first tick, as given by {@link System#nanoTime()}
+   */
+  Match(final World world, final int thread, final int tickRate, final long start) {
+    this.world = world;
+    this.thread = thread;
+    this.periodNanos = 1_000_000_000L / tickRate;
+    this.stepSeconds = 1f / tickRate;
+    this.deadline = start;
+    this.stopped = false;
+  }
+
+  /**
+   * Gets the world of this match. It is updated by the tick thread of the match, so it must not be
+   * accessed from other threads while the match is running.
+   *
+   * @return the world of the match
+   */
+  public World world() {
+    return this.world;
+  }
+
+  /**
+   * Gets the index of the tick thread this match is pinned to.
+   *
+   * @return the index of the thread running the match
+   */
+  public int thread() {
+    return this.thread;
+  }
+
+  /** Stops this match, which is dropped by its thread before its next tick. */
+  public void stop() {
+    this.stopped = true;
+  }
+
+  /**
+   * Checks whether this match has been stopped.
+   *
+   * @return true if the match has been stopped
+   */
+  public boolean isStopped() {
+    return this.stopped;
+  }
+
+  /**
+   * Gets the exception that stopped this match, if a tick threw one. The world of a failed match
+   * is left as the failed tick did, and is no longer updated.
+   *
+   * @return the exception thrown by the failed tick, or nothing if no tick failed
+   */
+  public Optional<RuntimeException> failure() {
+    return Optional.ofNullable(this.failure);
+  }
+
+  /**
+   * Gets the statistics of the ticks run so far.
+   *
+   * @return the statistics of the match
+   */
+  public synchronized MatchStats stats() {
+    return new MatchStats(
+        this.ticks,
+        this.skippedTicks,
+        this.ticks == 0 ? 0 : this.totalLatenessNanos / this.ticks,
+        this.maxLatenessNanos);
+  }
+
+  long deadline() {
+    return this.deadline;
+  }
+
+  /**
+   * Runs the tick due at the current deadline. A match more than {@value
+   * Constants#MAX_STEPS_PER_FRAME} periods behind drops the ticks it missed, as the graphical game
+   * does, instead of running them back to back.
+   *
+   * @param now the current time, as given by {@link System#nanoTime()}
+   */
+  void tick(final long now) {
+    final long lateness = now - this.deadline;
+    long skipped = 0;
+    if (lateness > this.periodNanos * Constants.MAX_STEPS_PER_FRAME) {
+      skipped = lateness / this.periodNanos;
+      this.deadline += skipped * this.periodNanos;
+    }
+    this.world.update(this.stepSeconds);
+    this.deadline += this.periodNanos;
+    record(lateness, skipped);
+  }
+
+  /**
+   * Stops this match after one of its ticks threw an exception.
+   *
+   * @param exception the exception thrown by the tick
+   */
+  void fail(final RuntimeException exception) {
+    this.failure = exception;
+    this.stopped = true;
+  }
+
+  private synchronized void record(final long lateness, final long skipped) {
+    this.ticks++;
+    this.skippedTicks += skipped;
+    this.totalLatenessNanos += lateness;
+    this.maxLatenessNanos = Math.max(this.maxLatenessNanos, lateness);
+  }
+}
@@ -0,0 +1,145 @@
+package it.unibo.donkeykong.headless;
+
+import it.unibo.donkeykong.core.api.World;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Host running many independent matches on a fixed number of tick threads. A match is pinned to
+ * the least loaded thread when it is hosted and stays there, so that its world stays in the caches
+ * of the same core. Each thread keeps its matches ordered by the deadline of their next tick and
+ * always runs the earliest one, sleeping until it is due. A match whose tick throws is stopped and
+ * dropped, leaving the other matches of its thread running.
+ */
+public final class MatchHost implements AutoCloseable {
+
+  private final List<TickThread> threads;
+  private volatile boolean running;
+
+  /** Thread running the ticks of the matches pinned to it, earliest deadline first. */
+  private final class TickThread extends Thread {
+
+    private final Queue<Match> incoming;
+    private final PriorityQueue<Match> matches;
+    private int load;
+
+    TickThread(final int index) {
+      super("match-tick-" + index);
+      this.incoming = new ConcurrentLinkedQueue<>();
+      this.matches = new PriorityQueue<>((a, b) -> Long.compare(a.deadline() - b.deadline(), 0));
+      this.load = 0;
+      setDaemon(true);
+    }
+
+    void pin(final Match match) {
+      this.load++;
+      this.incoming.add(match);
+      LockSupport.unpark(this);
+    }
+
+    @Override
+    public void run() {
+      while (running) {
+        for (Match match = this.incoming.poll(); match != null; match = this.incoming.poll()) {
+          this.matches.add(match);
+        }
+        final Match next = this.matches.peek();
+        if (next == null) {
+          LockSupport.park(this);
+          continue;
+        }
+        final long now = System.nanoTime();
+        if (next.deadline() - now > 0) {
+          LockSupport.parkNanos(this, next.deadline() - now);
+          continue;
+        }
+        this.matches.poll();
+        if (next.isStopped()) {
+          unpin();
+          continue;
+        }
+        try {
+          next.tick(now);
+          this.matches.add(next);
+        } catch (final RuntimeException e) {
+          next.fail(e);
+          unpin();
+          System.err.println("Match on " + getName() + " failed and was stopped: " + e);
+        }
+      }
+    }
+
+    private void unpin() {
+      synchronized (MatchHost.this) {
+        this.load--;
+      }
+    }
+  }
+
+  /**
+   * Constructor for MatchHost, starting its tick threads.
+   *
+   * @param threadCount the number of tick threads
+   * @throws IllegalArgumentException if the number of threads is not positive
+   */
+  public MatchHost(final int threadCount) {
+    if (threadCount <= 0) {
+      throw new IllegalArgumentException("Invalid number of tick threads: " + threadCount);
+    }
+    this.running = true;
+    this.threads = new ArrayList<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      final TickThread thread = new TickThread(i);
+      this.threads.add(thread);
+      thread.start();
+    }
+  }
+
+  /**
+   * Hosts a match, whose first tick is due immediately.
+   *
+   * @param world the world of the match, which must not be updated by anyone else
+   * @param tickRate the number of ticks per second of the match
+   * @return the hosted match
+   * @throws IllegalArgumentException if the tick rate is not positive
+   * @throws IllegalStateException if the host has been closed
+   */
+  public synchronized Match host(final World world, final int tickRate) {
+    if (tickRate <= 0) {
+      throw new IllegalArgumentException("Invalid tick rate: " + tickRate);
+    }
+    if (!this.running) {
+      throw new IllegalStateException("Match host closed");
+    }
+    TickThread thread = this.threads.get(0);
+    for (final TickThread candidate : this.threads) {
+      if (candidate.load < thread.load) {
+        thread = candidate;
+      }
+    }
+    final Match match = new Match(world, this.threads.indexOf(thread), tickRate, System.nanoTime());
+    thread.pin(match);
+    return match;
+  }
+
+  /** Stops every match and waits for the tick threads to end. */
+  @Override
+  public void close() {
+    this.running = false;
+    for (final TickThread thread : this.threads) {
+      LockSupport.unpark(thread);
+    }
+    for (final TickThread thread : this.threads) {
+      try {
+        thread.join();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package it.unibo.donkeykong.headless;
+
+/**
+ * Statistics of the ticks of a hosted match. The lateness of a tick is the time between its
+ * deadline and the moment it started, which grows when the thread of the match has more work than
+ * it can do in time.
+ *
+ * @param ticks the number of ticks run
+ * @param skippedTicks the number of ticks dropped because the match fell too far behind
+ * @param meanLatenessNanos the mean lateness of the ticks, in nanoseconds
+ * @param maxLatenessNanos the maximum lateness of a tick, in nanoseconds
+ */
+public record MatchStats(
+    long ticks, long skippedTicks, long meanLatenessNanos, long maxLatenessNanos) {}
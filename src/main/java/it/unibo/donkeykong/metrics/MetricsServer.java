@@ -0,0 +1,77 @@
+package it.unibo.donkeykong.metrics;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+
+/**
+ * HTTP endpoint serving {@link SystemMetrics}: {@code /metrics} in the Prometheus text format and
+ * {@code /metrics.json} as JSON.
+ */
+public final class MetricsServer {
+
+  private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private MetricsServer() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Starts serving the metrics.
+   *
+   * @param vertx the Vert.x instance running the server
+   * @param metrics the metrics to serve
+   * @param port the port to listen on, or {@code 0} to pick a free one
+   * @return the future completed with the listening server
+   */
+  public static Future<HttpServer> start(
+      final Vertx vertx, final SystemMetrics metrics, final int port) {
+    final Router router = Router.router(vertx);
+    router
+        .get("/metrics")
+        .handler(
+            context ->
+                context
+                    .response()
+                    .putHeader("Content-Type", PROMETHEUS_CONTENT_TYPE)
+                    .end(metrics.toPrometheus()));
+    router.get("/metrics.json").handler(context -> context.json(toJson(metrics)));
+    return vertx.createHttpServer().requestHandler(router).listen(port);
+  }
+
+  /**
+   * Converts the metrics to JSON, with an object per system.
+   *
+   * @param metrics the metrics to convert
+   * @return the metrics, as JSON
+   */
+  public static JsonObject toJson(final SystemMetrics metrics) {
+    final JsonArray bounds = new JsonArray();
+    for (final long bound : SystemStats.bucketBoundsNanos()) {
+      bounds.add(bound);
+    }
+    final JsonObject systems = new JsonObject();
+    metrics
+        .systems()
+        .forEach(
+            (name, stats) -> {
+              final JsonArray buckets = new JsonArray();
+              for (final long count : stats.bucketCounts()) {
+                buckets.add(count);
+              }
+              systems.put(
+                  name,
+                  new JsonObject()
+                      .put("updates", stats.updates())
+                      .put("totalNanos", stats.totalNanos())
+                      .put("bucketCounts", buckets)
+                      .put("allocatedBytes", stats.allocatedBytes())
+                      .put("parallelUpdates", stats.parallelUpdates())
+                      .put("matchedEntities", stats.matchedEntities()));
+            });
+    return new JsonObject().put("bucketBoundsNanos", bounds).put("systems", systems);
+  }
+}
@@ -0,0 +1,192 @@
+package it.unibo.donkeykong.metrics;
+
+import it.unibo.donkeykong.core.api.SystemListener;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics of the system updates of the worlds it listens to, grouped by system class: time spent,
+ * bytes allocated and entities matched by the queries of each update. Worlds without a listener
+ * only pay for a null check per system update and per query lookup.
+ *
+ * <p>The allocated bytes are those of the thread updating the system. The part of a parallel
+ * iteration run by other threads of the pool is left out, while the thread may help with the work
+ * of other systems, so the bytes of the updates making one are not exact: they are counted apart,
+ * see {@link SystemStats#parallelUpdates()}.
+ */
+public final class SystemMetrics implements SystemListener {
+
+  private static final String PREFIX = "donkeykong_system_";
+  private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+  private final Map<String, SystemStats> statsBySystem;
+  private final ThreadLocal<Updates> updates;
+
+  /** Update of a system in progress on a thread. */
+  private static final class Update {
+    private SystemStats stats;
+    private long start;
+    private long allocated;
+    private int matched;
+    private boolean parallel;
+  }
+
+  /**
+   * Updates in progress on a thread, the innermost last. A thread nests them when it runs the
+   * update of another system while waiting for a parallel iteration.
+   */
+  private static final class Updates {
+    private Update[] stack = new Update[0];
+    private int depth;
+
+    private Update push() {
+      if (this.depth == this.stack.length) {
+        this.stack = Arrays.copyOf(this.stack, this.depth + 1);
+        this.stack[this.depth] = new Update();
+      }
+      return this.stack[this.depth++];
+    }
+
+    private Update current() {
+      return this.depth == 0 ? null : this.stack[this.depth - 1];
+    }
+  }
+
+  /** Constructor for SystemMetrics, with no recorded update. */
+  public SystemMetrics() {
+    this.statsBySystem = new ConcurrentHashMap<>();
+    this.updates = ThreadLocal.withInitial(Updates::new);
+  }
+
+  private static com.sun.management.ThreadMXBean allocationCounter() {
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (threads instanceof com.sun.management.ThreadMXBean counter
+        && counter.isThreadAllocatedMemorySupported()) {
+      counter.setThreadAllocatedMemoryEnabled(true);
+      return counter;
+    }
+    return null;
+  }
+
+  private static long allocatedBytes() {
+    return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+  }
+
+  @Override
+  public void updateStarted(final GameSystem system) {
+    final SystemStats stats =
+        this.statsBySystem.computeIfAbsent(
+            system.getClass().getSimpleName(), name -> new SystemStats());
+    final Update update = this.updates.get().push();
+    update.stats = stats;
+    update.matched = 0;
+    update.parallel = false;
+    update.allocated = allocatedBytes();
+    update.start = System.nanoTime();
+  }
+
+  @Override
+  public void entitiesMatched(final int entities) {
+    final Update update = this.updates.get().current();
+    if (update != null) {
+      update.matched += entities;
+    }
+  }
+
+  @Override
+  public void parallelIteration() {
+    final Update update = this.updates.get().current();
+    if (update != null) {
+      update.parallel = true;
+    }
+  }
+
+  @Override
+  public void updateEnded(final GameSystem system) {
+    final long end = System.nanoTime();
+    final long allocated = allocatedBytes();
+    final Updates inProgress = this.updates.get();
+    final Update update = inProgress.current();
+    inProgress.depth--;
+    update.stats.record(
+        end - update.start, allocated - update.allocated, update.matched, update.parallel);
+    update.stats = null;
+  }
+
+  /**
+   * Gets the statistics of each measured system, by name of its class.
+   *
+   * @return the statistics of the systems, sorted by name
+   */
+  public Map<String, SystemStats> systems() {
+    return Collections.unmodifiableMap(new TreeMap<>(this.statsBySystem));
+  }
+
+  /**
+   * Formats the metrics in the Prometheus text exposition format.
+   *
+   * @return the metrics, as Prometheus text
+   */
+  public String toPrometheus() {
+    final Map<String, SystemStats> systems = systems();
+    final long[] bounds = SystemStats.bucketBoundsNanos();
+    final StringBuilder text = new StringBuilder();
+    header(text, "update_seconds", "histogram", "Time spent updating each system.");
+    systems.forEach(
+        (name, stats) -> {
+          final long[] counts = stats.bucketCounts();
+          long cumulative = 0;
+          for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            final String bound = i < bounds.length ? Double.toString(bounds[i] / 1e9) : "+Inf";
+            sample(text, "update_seconds_bucket", name, ",le=\"" + bound + "\"", cumulative);
+          }
+          sample(text, "update_seconds_sum", name, "", stats.totalNanos() / 1e9);
+          sample(text, "update_seconds_count", name, "", stats.updates());
+        });
+    header(
+        text,
+        "allocated_bytes_total",
+        "counter",
+        "Bytes allocated by the thread updating each system, parallel iterations left out.");
+    systems.forEach(
+        (name, stats) -> sample(text, "allocated_bytes_total", name, "", stats.allocatedBytes()));
+    header(
+        text,
+        "parallel_updates_total",
+        "counter",
+        "Updates of each system iterating in parallel, whose allocated bytes are not exact.");
+    systems.forEach(
+        (name, stats) -> sample(text, "parallel_updates_total", name, "", stats.parallelUpdates()));
+    header(
+        text,
+        "matched_entities",
+        "gauge",
+        "Entities matched by the queries of the last update of each system.");
+    systems.forEach(
+        (name, stats) -> sample(text, "matched_entities", name, "", stats.matchedEntities()));
+    return text.toString();
+  }
+
+  private static void header(
+      final StringBuilder text, final String metric, final String type, final String help) {
+    text.append("# HELP ").append(PREFIX).append(metric).append(' ').append(help).append('\n');
+    text.append("# TYPE ").append(PREFIX).append(metric).append(' ').append(type).append('\n');
+  }
+
+  private static void sample(
+      final StringBuilder text,
+      final String metric,
+      final String system,
+      final String labels,
+      final Object value) {
+    text.append(PREFIX).append(metric).append("{system=\"").append(system).append('"');
+    text.append(labels).append("} ").append(value).append('\n');
+  }
+}
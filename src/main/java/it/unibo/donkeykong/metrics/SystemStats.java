@@ -0,0 +1,133 @@
+package it.unibo.donkeykong.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the updates of one kind of system, possibly gathered from several worlds at once.
+ * Update times are counted in a histogram with fixed buckets, so that recording one is a couple of
+ * additions.
+ */
+public final class SystemStats {
+
+  private static final long[] BUCKET_BOUNDS_NANOS = {
+    1_000L,
+    2_500L,
+    5_000L,
+    10_000L,
+    25_000L,
+    50_000L,
+    100_000L,
+    250_000L,
+    500_000L,
+    1_000_000L,
+    2_500_000L,
+    5_000_000L,
+    10_000_000L,
+    25_000_000L,
+    50_000_000L
+  };
+
+  private final LongAdder[] buckets;
+  private final LongAdder updates;
+  private final LongAdder totalNanos;
+  private final LongAdder allocatedBytes;
+  private final LongAdder parallelUpdates;
+  private volatile int matchedEntities;
+
+  SystemStats() {
+    this.buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+    for (int i = 0; i < this.buckets.length; i++) {
+      this.buckets[i] = new LongAdder();
+    }
+    this.updates = new LongAdder();
+    this.totalNanos = new LongAdder();
+    this.allocatedBytes = new LongAdder();
+    this.parallelUpdates = new LongAdder();
+  }
+
+  void record(final long nanos, final long allocated, final int matched, final boolean parallel) {
+    int bucket = 0;
+    while (bucket < BUCKET_BOUNDS_NANOS.length && nanos > BUCKET_BOUNDS_NANOS[bucket]) {
+      bucket++;
+    }
+    this.buckets[bucket].increment();
+    this.updates.increment();
+    this.totalNanos.add(nanos);
+    this.allocatedBytes.add(allocated);
+    if (parallel) {
+      this.parallelUpdates.increment();
+    }
+    this.matchedEntities = matched;
+  }
+
+  /**
+   * Gets the upper bounds of the buckets of the update time histogram, the last bucket having no
+   * bound.
+   *
+   * @return the upper bounds of the buckets, in nanoseconds
+   */
+  public static long[] bucketBoundsNanos() {
+    return BUCKET_BOUNDS_NANOS.clone();
+  }
+
+  /**
+   * Gets the number of updates whose time fell in each bucket of the histogram.
+   *
+   * @return the count of each bucket, one more than the bounds
+   */
+  public long[] bucketCounts() {
+    final long[] counts = new long[this.buckets.length];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = this.buckets[i].sum();
+    }
+    return counts;
+  }
+
+  /**
+   * Gets the number of recorded updates.
+   *
+   * @return the number of updates
+   */
+  public long updates() {
+    return this.updates.sum();
+  }
+
+  /**
+   * Gets the total time spent in the recorded updates.
+   *
+   * @return the total update time, in nanoseconds
+   */
+  public long totalNanos() {
+    return this.totalNanos.sum();
+  }
+
+  /**
+   * Gets the bytes allocated by the threads running the recorded updates, or {@code 0} if the
+   * virtual machine cannot measure them. They are exact only if no update iterated in parallel.
+   *
+   * @return the total allocated bytes
+   */
+  public long allocatedBytes() {
+    return this.allocatedBytes.sum();
+  }
+
+  /**
+   * Gets the number of recorded updates that iterated a query in parallel. The bytes these updates
+   * allocated on other threads are missing from {@link #allocatedBytes()}, which may instead count
+   * bytes of other systems updated meanwhile by the same thread.
+   *
+   * @return the number of updates iterating in parallel
+   */
+  public long parallelUpdates() {
+    return this.parallelUpdates.sum();
+  }
+
+  /**
+   * Gets the number of entities matched by the queries of the last recorded update.
+   *
+   * @return the number of matched entities
+   */
+  public int matchedEntities() {
+    return this.matchedEntities;
+  }
+}
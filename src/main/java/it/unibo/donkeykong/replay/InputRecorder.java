@@ -0,0 +1,63 @@
+package it.unibo.donkeykong.replay;
+
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.InputComponent;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * System sampling the inputs of the players at the start of every tick. It must be added to the
+ * world before the systems handling the inputs, and the world must be updated with a fixed delta
+ * time.
+ */
+public class InputRecorder implements GameSystem {
+
+  private final List<SortedMap<Integer, InputSample>> ticks;
+  private float deltaTime;
+
+  /** Constructor for InputRecorder, with no tick recorded. */
+  public InputRecorder() {
+    this.ticks = new ArrayList<>();
+    this.deltaTime = 0;
+  }
+
+  @Override
+  public void update(final World world, final float deltaTime) {
+    if (this.ticks.isEmpty()) {
+      this.deltaTime = deltaTime;
+    } else if (deltaTime != this.deltaTime) {
+      throw new IllegalStateException(
+          "Recorded ticks need a fixed delta time: " + deltaTime + " after " + this.deltaTime);
+    }
+    final SortedMap<Integer, InputSample> samples = new TreeMap<>();
+    world.forEach(
+        InputComponent.class,
+        (entity, input) -> samples.put(entity.getId(), InputSample.of(input)));
+    this.ticks.add(samples);
+  }
+
+  /**
+   * Ends the recording, taking the digest of the world in its final state.
+   *
+   * @param world the recorded world
+   * @return the recording of the ticks run so far
+   */
+  public InputRecording finish(final World world) {
+    return new InputRecording(this.deltaTime, this.ticks, WorldDigest.of(world));
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(InputComponent.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of();
+  }
+}
@@ -0,0 +1,111 @@
+package it.unibo.donkeykong.replay;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Inputs of the players of a match, sampled at the start of each tick, with the fixed delta time
+ * of the ticks and the {@link WorldDigest} of the world at the end of the match. Replaying the
+ * inputs from the initial setup with the same systems brings a world to the same final state.
+ * Samples are keyed by the id of the player they were taken from, so a recording does not depend
+ * on the order a world iterates its players in, which changes with the components of the display
+ * a world shown on screen adds to them.
+ *
+ * @param deltaTime the delta time of every tick, in seconds
+ * @param ticks the samples of each tick, by id of the player entity
+ * @param digest the digest of the world at the end of the recording
+ */
+public record InputRecording(
+    float deltaTime, List<SortedMap<Integer, InputSample>> ticks, long digest) {
+
+  private static final String HEADER = "donkeykong-input-recording 2";
+  private static final String ID_SEPARATOR = ":";
+
+  /**
+   * Constructor for InputRecording.
+   *
+   * @param deltaTime the delta time of every tick, in seconds
+   * @param ticks the samples of each tick
+   * @param digest the digest of the world at the end of the recording
+   */
+  public InputRecording {
+    ticks =
+        ticks.stream()
+            .<SortedMap<Integer, InputSample>>map(
+                samples -> Collections.unmodifiableSortedMap(new TreeMap<>(samples)))
+            .toList();
+  }
+
+  /**
+   * Saves this recording as text: a header, the delta time, the digest and the number of ticks,
+   * then a line per tick with the samples of the tick, each written as the id of its player, a
+   * colon and its {@linkplain InputSample#encode() code}.
+   *
+   * @param file the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public void save(final Path file) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+      writer.write(HEADER);
+      writer.newLine();
+      writer.write(Float.toString(this.deltaTime));
+      writer.newLine();
+      writer.write(Long.toString(this.digest));
+      writer.newLine();
+      writer.write(Integer.toString(this.ticks.size()));
+      writer.newLine();
+      for (final SortedMap<Integer, InputSample> samples : this.ticks) {
+        final List<String> codes = new ArrayList<>(samples.size());
+        samples.forEach((id, sample) -> codes.add(id + ID_SEPARATOR + sample.encode()));
+        writer.write(String.join(" ", codes));
+        writer.newLine();
+      }
+    }
+  }
+
+  /**
+   * Loads a recording saved by {@link #save(Path)}.
+   *
+   * @param file the file to read
+   * @return the loaded recording
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a recording
+   */
+  public static InputRecording load(final Path file) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(file)) {
+      if (!HEADER.equals(reader.readLine())) {
+        throw new IllegalArgumentException("Not an input recording: " + file);
+      }
+      final float deltaTime = Float.parseFloat(reader.readLine());
+      final long digest = Long.parseLong(reader.readLine());
+      final int tickCount = Integer.parseInt(reader.readLine());
+      final List<SortedMap<Integer, InputSample>> ticks = new ArrayList<>(tickCount);
+      for (int tick = 0; tick < tickCount; tick++) {
+        final String line = reader.readLine();
+        if (line == null) {
+          throw new IllegalArgumentException("Truncated input recording: " + file);
+        }
+        final SortedMap<Integer, InputSample> samples = new TreeMap<>();
+        for (final String code : line.isEmpty() ? new String[0] : line.split(" ")) {
+          final int separator = code.indexOf(ID_SEPARATOR);
+          if (separator < 0) {
+            throw new IllegalArgumentException("Malformed input sample: " + code);
+          }
+          samples.put(
+              Integer.parseInt(code.substring(0, separator)),
+              InputSample.decode(code.substring(separator + 1)));
+        }
+        ticks.add(samples);
+      }
+      return new InputRecording(deltaTime, ticks, digest);
+    }
+  }
+}
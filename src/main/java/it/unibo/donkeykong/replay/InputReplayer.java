@@ -0,0 +1,61 @@
+package it.unibo.donkeykong.replay;
+
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.InputComponent;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * System bringing the inputs of the players to their recorded state at the start of every tick,
+ * matching each player to its sample by entity id. It takes the place of the {@link InputRecorder}
+ * in the world replaying a recording.
+ */
+public class InputReplayer implements GameSystem {
+
+  private final InputRecording recording;
+  private int tick;
+
+  /**
+   * Constructor for InputReplayer.
+   *
+   * @param recording the recording to replay
+   */
+  public InputReplayer(final InputRecording recording) {
+    this.recording = recording;
+    this.tick = 0;
+  }
+
+  @Override
+  public void update(final World world, final float deltaTime) {
+    if (this.tick == this.recording.ticks().size()) {
+      throw new IllegalStateException("Replay past the end of the recording");
+    }
+    final SortedMap<Integer, InputSample> samples = this.recording.ticks().get(this.tick++);
+    final int[] players = {0};
+    world.forEach(
+        InputComponent.class,
+        (entity, input) -> {
+          final InputSample sample = samples.get(entity.getId());
+          if (sample == null) {
+            throw new IllegalStateException("Replay diverged at tick " + this.tick);
+          }
+          sample.applyTo(input);
+          players[0]++;
+        });
+    if (players[0] != samples.size()) {
+      throw new IllegalStateException("Replay diverged at tick " + this.tick);
+    }
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of();
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(InputComponent.class);
+  }
+}
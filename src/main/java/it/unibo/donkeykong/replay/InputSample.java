@@ -0,0 +1,72 @@
+package it.unibo.donkeykong.replay;
+
+import it.unibo.donkeykong.ecs.component.InputComponent;
+import it.unibo.donkeykong.ecs.component.InputComponent.HorizontalInput;
+import it.unibo.donkeykong.ecs.component.InputComponent.VerticalInput;
+
+/**
+ * State of the {@link InputComponent} of a player at the start of a tick.
+ *
+ * @param horizontal the horizontal input
+ * @param vertical the vertical input
+ * @param jump whether jump has been pressed and not yet handled
+ */
+public record InputSample(HorizontalInput horizontal, VerticalInput vertical, boolean jump) {
+
+  private static final String HORIZONTAL_CODES = "LRN";
+  private static final String VERTICAL_CODES = "UDN";
+
+  /**
+   * Takes a sample of an input component.
+   *
+   * @param input the input component
+   * @return the sample of its current state
+   */
+  public static InputSample of(final InputComponent input) {
+    return new InputSample(
+        input.getCurrentHInput(), input.getCurrentVInput(), input.isJumpPressed());
+  }
+
+  /**
+   * Brings an input component to the state of this sample.
+   *
+   * @param input the input component to update
+   */
+  public void applyTo(final InputComponent input) {
+    input.setCurrentHInput(this.horizontal);
+    input.setCurrentVInput(this.vertical);
+    input.setJumpPressed(this.jump);
+  }
+
+  /**
+   * Encodes this sample in three characters: the horizontal input ({@code L}, {@code R} or {@code
+   * N}), the vertical input ({@code U}, {@code D} or {@code N}) and jump ({@code 1} or {@code 0}).
+   *
+   * @return the code of the sample
+   */
+  public String encode() {
+    return ""
+        + HORIZONTAL_CODES.charAt(this.horizontal.ordinal())
+        + VERTICAL_CODES.charAt(this.vertical.ordinal())
+        + (this.jump ? '1' : '0');
+  }
+
+  /**
+   * Decodes a sample encoded by {@link #encode()}.
+   *
+   * @param code the code of the sample
+   * @return the decoded sample
+   * @throws IllegalArgumentException if the code is malformed
+   */
+  public static InputSample decode(final String code) {
+    final int horizontal = code.length() == 3 ? HORIZONTAL_CODES.indexOf(code.charAt(0)) : -1;
+    final int vertical = code.length() == 3 ? VERTICAL_CODES.indexOf(code.charAt(1)) : -1;
+    if (horizontal < 0 || vertical < 0 || code.charAt(2) != '0' && code.charAt(2) != '1') {
+      throw new IllegalArgumentException("Malformed input sample: " + code);
+    }
+    return new InputSample(
+        HorizontalInput.values()[horizontal],
+        VerticalInput.values()[vertical],
+        code.charAt(2) == '1');
+  }
+}
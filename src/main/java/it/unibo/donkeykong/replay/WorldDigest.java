@@ -0,0 +1,62 @@
+package it.unibo.donkeykong.replay;
+
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.HealthComponent;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.StateComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Digest of the simulated state of a world: the identity, position, velocity, state and health of
+ * every positioned entity. Components that only serve the display are left out, so that a world
+ * shown on screen and its headless replay have the same digest. The digest is computed from the
+ * values of the components, never from identity hash codes, so it is the same in every process.
+ * Entities are digested in the order of their ids, never in the order the world stores them in.
+ */
+public final class WorldDigest {
+
+  private static final long ABSENT = -1;
+
+  private WorldDigest() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Computes the digest of a world.
+   *
+   * @param world the world to digest
+   * @return the digest, equal for worlds in the same simulated state
+   */
+  public static long of(final World world) {
+    final List<Entity> entities =
+        world.getEntitiesWithComponents(List.of(PositionComponent.class)).stream()
+            .sorted(Comparator.comparingInt(Entity::getId))
+            .toList();
+    long digest = entities.size();
+    for (final Entity entity : entities) {
+      digest = mix(digest, entity.getId());
+      digest = mix(digest, entity.getGeneration());
+      final PositionComponent position =
+          world.getComponentOfEntity(entity, PositionComponent.class);
+      digest = mix(digest, Double.doubleToLongBits(position.x()));
+      digest = mix(digest, Double.doubleToLongBits(position.y()));
+      final VelocityComponent velocity =
+          world.getComponentOfEntity(entity, VelocityComponent.class);
+      digest = mix(digest, velocity == null ? ABSENT : Double.doubleToLongBits(velocity.dx()));
+      digest = mix(digest, velocity == null ? ABSENT : Double.doubleToLongBits(velocity.dy()));
+      final StateComponent state = world.getComponentOfEntity(entity, StateComponent.class);
+      digest = mix(digest, state == null ? ABSENT : state.state().ordinal());
+      digest = mix(digest, state == null ? ABSENT : state.direction().ordinal());
+      final HealthComponent health = world.getComponentOfEntity(entity, HealthComponent.class);
+      digest = mix(digest, health == null ? ABSENT : health.livesCount());
+    }
+    return digest;
+  }
+
+  private static long mix(final long digest, final long value) {
+    return 31 * digest + value;
+  }
+}
@@ -0,0 +1,240 @@
+package it.unibo.donkeykong.scenario;
+
+import static it.unibo.donkeykong.core.Constants.*;
+
+import it.unibo.donkeykong.core.GameSetup;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.RectangleCollider;
+import it.unibo.donkeykong.ecs.entity.EntityFactoryImpl;
+import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import it.unibo.donkeykong.replay.InputSample;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Synthetic level stressing the simulation, in place of the map of the game: platforms laid out in
+ * rows across the world, ladders between the rows, barrels already rolling and more spawning at a
+ * given rate, and players driven by random or scripted inputs. Everything placed at random is
+ * drawn from the seed, so the same scenario always builds the same world.
+ *
+ * <p>A scenario is written as whitespace separated {@code key=value} pairs, any pair left out
+ * keeping its default, e.g. {@code "platforms=400 ladders=100 barrels=2000 spawnInterval=0.05
+ * players=16 inputs=random seed=7"}. The {@code script} of the scripted inputs is a comma separated
+ * list of {@linkplain InputSample#encode() input codes}, each optionally followed by {@code *} and
+ * the number of ticks it is held, e.g. {@code "RN0*120,NN1,LN0*120,NU0*60"}.
+ *
+ * @param platforms the number of platforms
+ * @param ladders the number of ladders
+ * @param barrels the number of barrels created with the level
+ * @param spawnInterval the time between two spawned barrels, in seconds, or 0 for none to spawn
+ * @param players the number of players
+ * @param inputs how the inputs of the players are driven
+ * @param script the inputs of the scripted players, one per tick, repeated when they run out
+ * @param seed the seed of the random placements and inputs
+ */
+public record Scenario(
+    int platforms,
+    int ladders,
+    int barrels,
+    float spawnInterval,
+    int players,
+    Inputs inputs,
+    List<InputSample> script,
+    long seed) {
+
+  /** Scenario as large as the map of the game, with a single player left to the caller. */
+  public static final Scenario DEFAULT =
+      new Scenario(
+          17,
+          12,
+          0,
+          SPAWN_INTERVAL,
+          1,
+          Inputs.NONE,
+          parseScript("RN0*120,NN1,LN0*120,NU0*60"),
+          0);
+
+  private static final int PLATFORM_HEIGHT = 30;
+  private static final int LADDER_WIDTH = 30;
+  private static final double ROW_SPACING = 160;
+  private static final double TOP_ROW_Y = 240;
+  private static final double PLATFORM_FILL = 0.8;
+  private static final Set<String> KEYS =
+      Set.of(
+          "platforms",
+          "ladders",
+          "barrels",
+          "spawnInterval",
+          "players",
+          "inputs",
+          "script",
+          "seed");
+
+  /** How the inputs of the players of a scenario are driven. */
+  public enum Inputs {
+    /** The inputs are left to the caller, such as the keyboard or a replay. */
+    NONE,
+    /** Each player holds a random input for a while, then draws another one. */
+    RANDOM,
+    /** Each player follows the script, from a different point than the others. */
+    SCRIPTED
+  }
+
+  /**
+   * Constructor for Scenario.
+   *
+   * @throws IllegalArgumentException if a count or the spawn interval is negative, or the script
+   *     is empty
+   */
+  public Scenario {
+    if (platforms < 0 || ladders < 0 || barrels < 0 || players < 0 || spawnInterval < 0) {
+      throw new IllegalArgumentException("Scenario counts and intervals must not be negative");
+    }
+    if (script.isEmpty()) {
+      throw new IllegalArgumentException("Scenario script must not be empty");
+    }
+    script = List.copyOf(script);
+  }
+
+  /**
+   * Parses a scenario written as {@code key=value} pairs, starting from {@link #DEFAULT}.
+   *
+   * @param spec the pairs of the scenario
+   * @return the parsed scenario
+   * @throws IllegalArgumentException if a pair is malformed or its key unknown
+   */
+  public static Scenario parse(final String spec) {
+    final Map<String, String> pairs = new HashMap<>();
+    for (final String pair : spec.trim().split("\\s+")) {
+      if (pair.isEmpty()) {
+        continue;
+      }
+      final int separator = pair.indexOf('=');
+      if (separator <= 0 || !KEYS.contains(pair.substring(0, separator))) {
+        throw new IllegalArgumentException("Malformed or unknown scenario pair: " + pair);
+      }
+      pairs.put(pair.substring(0, separator), pair.substring(separator + 1));
+    }
+    final String inputs = pairs.getOrDefault("inputs", DEFAULT.inputs.name());
+    try {
+      return new Scenario(
+          Integer.parseInt(pairs.getOrDefault("platforms", "" + DEFAULT.platforms)),
+          Integer.parseInt(pairs.getOrDefault("ladders", "" + DEFAULT.ladders)),
+          Integer.parseInt(pairs.getOrDefault("barrels", "" + DEFAULT.barrels)),
+          Float.parseFloat(pairs.getOrDefault("spawnInterval", "" + DEFAULT.spawnInterval)),
+          Integer.parseInt(pairs.getOrDefault("players", "" + DEFAULT.players)),
+          Inputs.valueOf(inputs.toUpperCase(Locale.ROOT)),
+          pairs.containsKey("script") ? parseScript(pairs.get("script")) : DEFAULT.script,
+          Long.parseLong(pairs.getOrDefault("seed", "" + DEFAULT.seed)));
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException("Malformed scenario: " + spec, e);
+    }
+  }
+
+  private static List<InputSample> parseScript(final String script) {
+    final List<InputSample> samples = new ArrayList<>();
+    for (final String step : script.split(",")) {
+      final int times = step.indexOf('*');
+      final InputSample sample = InputSample.decode(times < 0 ? step : step.substring(0, times));
+      final int ticks = times < 0 ? 1 : Integer.parseInt(step.substring(times + 1));
+      if (ticks <= 0) {
+        throw new IllegalArgumentException("Malformed script step: " + step);
+      }
+      samples.addAll(Collections.nCopies(ticks, sample));
+    }
+    return samples;
+  }
+
+  /**
+   * Creates the platforms, ladders, barrels and players of this scenario in a world. The platforms
+   * fill rows from the bottom of the world, the ladders join the rows, and the barrels and the
+   * players start at random places between the rows.
+   *
+   * @param world the world to populate
+   * @return the entity factory of the world, to create more entities later
+   */
+  public EntityFactory populate(final World world) {
+    final EntityFactory entityFactory = new EntityFactoryImpl(world);
+    final Random random = new Random(this.seed);
+    final int perRow = Math.max(1, (int) Math.ceil(Math.sqrt(this.platforms)));
+    final int rows = Math.max(1, (this.platforms + perRow - 1) / perRow);
+    final double rowSpacing =
+        rows == 1 ? ROW_SPACING : Math.min(ROW_SPACING, (rowY(0, 0) - TOP_ROW_Y) / (rows - 1));
+    final int platformHeight = Math.max(1, (int) Math.min(PLATFORM_HEIGHT, rowSpacing / 2));
+    final int ladderHeight = Math.max(1, (int) rowSpacing);
+    final double cellWidth = WORLD_WIDTH / (double) perRow;
+    final Map<PositionComponent, RectangleCollider> platformPlacements = new LinkedHashMap<>();
+    for (int i = 0; i < this.platforms; i++) {
+      platformPlacements.put(
+          new PositionComponent((i % perRow + 0.5) * cellWidth, rowY(i / perRow, rowSpacing)),
+          new RectangleCollider(Math.max(1, (int) (cellWidth * PLATFORM_FILL)), platformHeight));
+    }
+    entityFactory.createPlatforms(platformPlacements);
+    final Map<PositionComponent, RectangleCollider> ladderPlacements = new LinkedHashMap<>();
+    for (int i = 0; i < this.ladders; i++) {
+      ladderPlacements.put(
+          new PositionComponent(
+              randomX(random, LADDER_WIDTH / 2.0),
+              rowY(i % Math.max(1, rows - 1), rowSpacing) - rowSpacing / 2),
+          new RectangleCollider(LADDER_WIDTH, ladderHeight));
+    }
+    entityFactory.createLadders(ladderPlacements);
+    for (int i = 0; i < this.barrels; i++) {
+      final double velocity = random.nextBoolean() ? BARREL_VELOCITY : -BARREL_VELOCITY;
+      final PositionComponent position =
+          randomPlace(random, rows, rowSpacing, BARREL_COLLISION_RADIUS);
+      entityFactory.createBarrel(position, velocity);
+    }
+    for (int i = 0; i < this.players; i++) {
+      entityFactory.createPlayer(
+          randomPlace(random, rows, rowSpacing, PLAYER_COLLISION_WIDTH / 2.0));
+    }
+    return entityFactory;
+  }
+
+  /**
+   * Creates the systems driving the inputs of the players of this scenario, to be added after
+   * populating a world and before its simulation systems.
+   *
+   * @return the input systems, empty if the inputs are left to the caller
+   */
+  public List<GameSystem> inputSystems() {
+    return this.inputs == Inputs.NONE || this.players == 0
+        ? List.of()
+        : List.of(new ScenarioInputSystem(this));
+  }
+
+  /**
+   * Adds to a world the systems simulating the game, spawning barrels at the rate of this
+   * scenario.
+   *
+   * @param world the world to add the systems to
+   * @param entityFactory the entity factory used to spawn barrels
+   */
+  public void addSimulationSystems(final World world, final EntityFactory entityFactory) {
+    GameSetup.addSimulationSystems(world, entityFactory, this.spawnInterval);
+  }
+
+  private static double rowY(final int row, final double rowSpacing) {
+    return WORLD_HEIGHT - PLATFORM_HEIGHT / 2.0 - 1 - row * rowSpacing;
+  }
+
+  private static double randomX(final Random random, final double halfWidth) {
+    return halfWidth + random.nextDouble() * (WORLD_WIDTH - 2 * halfWidth);
+  }
+
+  private static PositionComponent randomPlace(
+      final Random random, final int rows, final double rowSpacing, final double halfWidth) {
+    return new PositionComponent(
+        randomX(random, halfWidth), rowY(random.nextInt(rows), rowSpacing) - rowSpacing / 2);
+  }
+}
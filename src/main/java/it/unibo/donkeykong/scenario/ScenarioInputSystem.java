@@ -0,0 +1,73 @@
+package it.unibo.donkeykong.scenario;
+
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.InputComponent;
+import it.unibo.donkeykong.ecs.component.InputComponent.HorizontalInput;
+import it.unibo.donkeykong.ecs.component.InputComponent.VerticalInput;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import it.unibo.donkeykong.replay.InputSample;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * System driving the inputs of the players of a {@link Scenario} at the start of every tick, with
+ * random inputs drawn from the seed of the scenario or with its script. Players are told apart by
+ * the order the world iterates them, so the same scenario gives the same inputs on every run.
+ */
+public class ScenarioInputSystem implements GameSystem {
+
+  /** Number of ticks a random input is held before the next one is drawn. */
+  private static final int RANDOM_HOLD_TICKS = 30;
+
+  /** Number of ticks between the points of the script at which two consecutive players start. */
+  private static final int PLAYER_OFFSET_TICKS = 17;
+
+  private final Scenario.Inputs inputs;
+  private final List<InputSample> script;
+  private final Random random;
+  private int tick;
+
+  /**
+   * Constructor for ScenarioInputSystem.
+   *
+   * @param scenario the scenario whose players are driven
+   */
+  public ScenarioInputSystem(final Scenario scenario) {
+    this.inputs = scenario.inputs();
+    this.script = scenario.script();
+    this.random = new Random(scenario.seed());
+    this.tick = 0;
+  }
+
+  @Override
+  public void update(final World world, final float deltaTime) {
+    final int[] player = {0};
+    world.forEach(
+        InputComponent.class,
+        (entity, input) -> {
+          final int offset = this.tick + player[0]++ * PLAYER_OFFSET_TICKS;
+          if (this.inputs == Scenario.Inputs.SCRIPTED) {
+            this.script.get(offset % this.script.size()).applyTo(input);
+          } else if (offset % RANDOM_HOLD_TICKS == 0) {
+            new InputSample(
+                    HorizontalInput.values()[this.random.nextInt(HorizontalInput.values().length)],
+                    VerticalInput.values()[this.random.nextInt(VerticalInput.values().length)],
+                    this.random.nextInt(4) == 0)
+                .applyTo(input);
+          }
+        });
+    this.tick++;
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of();
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(InputComponent.class);
+  }
+}
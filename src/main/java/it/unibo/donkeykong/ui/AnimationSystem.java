@@ -1,13 +1,14 @@
 package it.unibo.donkeykong.ui;
 
+import it.unibo.donkeykong.core.api.CommandBuffer;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.AnimationComponent;
 import it.unibo.donkeykong.ecs.component.GraphicComponent;
 import it.unibo.donkeykong.ecs.component.StateComponent;
 import it.unibo.donkeykong.ecs.component.StateComponent.State;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
-import java.util.List;
 import java.util.Set;
 
 /** AnimationSystem updates the animation state (frame index and time) for entities. */
@@ -15,36 +16,46 @@ public class AnimationSystem implements GameSystem {
 
   @Override
   public void update(World world, float deltaTime) {
-    Set<Entity> animatedEntities =
-        world.getEntitiesWithComponents(List.of(GraphicComponent.class, StateComponent.class));
-    for (final Entity entity : animatedEntities) {
-      final GraphicComponent graphic = entity.getComponent(GraphicComponent.class).orElseThrow();
-      final State state = entity.getComponent(StateComponent.class).orElseThrow().state();
-      AnimationComponent animation =
-          entity
-              .getComponent(AnimationComponent.class)
-              .orElseGet(
-                  () -> {
-                    AnimationComponent newAnimation = new AnimationComponent(0, state, 0);
-                    entity.addComponent(newAnimation);
-                    return newAnimation;
-                  });
-      if (animation.state() != state) {
-        AnimationComponent newAnimation = new AnimationComponent(0, state, 0);
-        entity.updateComponent(newAnimation);
-        animation = newAnimation;
-      }
-      final int numberOfFrames = graphic.stateToAnimationSettings().apply(state).numberOfFrames();
-      if (numberOfFrames > 1) {
-        float timeSinceLastFrame = animation.timeSinceLastFrame() + deltaTime;
-        if (timeSinceLastFrame >= graphic.frameDuration()) {
-          final int updatedFrameIndex = (animation.frameIndex() + 1) % numberOfFrames;
-          entity.updateComponent(new AnimationComponent(updatedFrameIndex, state, 0));
-        } else {
-          entity.updateComponent(
-              new AnimationComponent(animation.frameIndex(), state, timeSinceLastFrame));
-        }
+    final CommandBuffer commands = world.commands();
+    world.forEach(
+        GraphicComponent.class,
+        StateComponent.class,
+        (entity, graphic, state) -> animate(commands, entity, graphic, state.state(), deltaTime));
+  }
+
+  private static void animate(
+      CommandBuffer commands,
+      Entity entity,
+      GraphicComponent graphic,
+      State state,
+      float deltaTime) {
+    final AnimationComponent current = entity.getComponent(AnimationComponent.class).orElse(null);
+    AnimationComponent animation =
+        current == null || current.state() != state ? new AnimationComponent(0, state, 0) : current;
+    final int numberOfFrames = graphic.stateToAnimationSettings().apply(state).numberOfFrames();
+    if (numberOfFrames > 1) {
+      float timeSinceLastFrame = animation.timeSinceLastFrame() + deltaTime;
+      if (timeSinceLastFrame >= graphic.frameDuration()) {
+        final int updatedFrameIndex = (animation.frameIndex() + 1) % numberOfFrames;
+        animation = new AnimationComponent(updatedFrameIndex, state, 0);
+      } else {
+        animation = new AnimationComponent(animation.frameIndex(), state, timeSinceLastFrame);
       }
     }
+    if (current == null) {
+      commands.addComponent(entity, animation);
+    } else if (animation != current) {
+      entity.updateComponent(animation);
+    }
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(GraphicComponent.class, StateComponent.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of(AnimationComponent.class);
   }
 }
@@ -1,12 +1,18 @@
 package it.unibo.donkeykong.ui;
 
 import it.unibo.donkeykong.core.Constants;
-import it.unibo.donkeykong.core.MapFactory;
+import it.unibo.donkeykong.core.FixedStepLoop;
+import it.unibo.donkeykong.core.GameSetup;
+import it.unibo.donkeykong.core.StorageLayout;
 import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.SystemRate;
 import it.unibo.donkeykong.core.api.World;
-import it.unibo.donkeykong.ecs.entity.EntityFactoryImpl;
 import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
-import it.unibo.donkeykong.ecs.system.*;
+import it.unibo.donkeykong.replay.InputRecorder;
+import it.unibo.donkeykong.scenario.Scenario;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.geometry.Rectangle2D;
@@ -18,34 +24,41 @@ import javafx.stage.Stage;
 
 public class DonkeyKongRushUI extends Application {
 
-  /** Target frame duration in nanoseconds for 60 FPS. */
-  private static final long TARGET_FPS_NANO = 1_000_000_000L / 60;
+  /** System property overriding the number of simulation steps per second. */
+  private static final String TICK_RATE_PROPERTY = "donkeykong.tickRate";
+
+  /** System property naming the file the inputs of the match are recorded to, when it is closed. */
+  private static final String RECORD_PROPERTY = "donkeykong.record";
+
+  /** System property holding a {@link Scenario} to play in place of the map of the game. */
+  private static final String SCENARIO_PROPERTY = "donkeykong.scenario";
 
   public static final String WINDOW_TITLE = "Donkey Kong: Rush";
 
   @Override
   public void start(Stage primaryStage) {
-    final World world = new WorldImpl();
-
-    // TODO: entity generation here? Not so sure, in dedicated controller class for mvc
-    final EntityFactory entityFactory = new EntityFactoryImpl(world);
-    final MapFactory mapFactory = new MapFactory(entityFactory);
-    entityFactory.createFirstPlayer();
-    entityFactory.createSecondPlayer();
-    entityFactory.createDonkeyKong();
-    entityFactory.createPauline();
-    mapFactory.generateMap();
+    final World world = new WorldImpl(StorageLayout.OBJECTS, ForkJoinPool.commonPool());
 
-    world.addSystem(new MovementSystem());
-    world.addSystem(new BoundariesSystem());
-    world.addSystem(new CollisionSystem());
-    world.addSystem(new PhysicsSystem());
-    world.addSystem(new HealthSystem());
-    world.addSystem(new SpawnSystem(entityFactory));
-    world.addSystem(new ClimbingSystem());
-    world.addSystem(new InputSystem());
-    world.addSystem(new GravitySystem());
-    world.addSystem(new EventDispatchSystem());
+    final String scenarioSpec = System.getProperty(SCENARIO_PROPERTY);
+    final Scenario scenario = scenarioSpec != null ? Scenario.parse(scenarioSpec) : null;
+    final EntityFactory entityFactory =
+        scenario != null ? scenario.populate(world) : GameSetup.populate(world);
+    final InterpolationSystem interpolation = new InterpolationSystem();
+    world.addSystem(interpolation);
+    if (scenario != null) {
+      scenario.inputSystems().forEach(world::addSystem);
+    }
+    final String recordFile = System.getProperty(RECORD_PROPERTY);
+    if (recordFile != null) {
+      final InputRecorder recorder = new InputRecorder();
+      world.addSystem(recorder);
+      primaryStage.setOnCloseRequest(e -> save(recorder, world, Path.of(recordFile)));
+    }
+    if (scenario != null) {
+      scenario.addSimulationSystems(world, entityFactory);
+    } else {
+      GameSetup.addSimulationSystems(world, entityFactory);
+    }
 
     final double aspectRatio = Constants.WORLD_WIDTH / (double) Constants.WORLD_HEIGHT;
     final Rectangle2D screen = Screen.getPrimary().getVisualBounds();
@@ -60,19 +73,20 @@ public class DonkeyKongRushUI extends Application {
     scene.setOnKeyPressed(e -> inputHandler.handleKeyEvent(e.getCode(), true));
     scene.setOnKeyReleased(e -> inputHandler.handleKeyEvent(e.getCode(), false));
 
-    world.addSystem(new AnimationSystem());
-    world.addSystem(new RenderingSystem(canvas));
+    world.addSystem(new AnimationSystem(), SystemRate.every(Constants.ANIMATION_INTERVAL));
+    final RenderingSystem renderingSystem =
+        new RenderingSystem(canvas, interpolation, scenario != null);
+    final FixedStepLoop loop =
+        new FixedStepLoop(
+            world,
+            Integer.getInteger(TICK_RATE_PROPERTY, Constants.TICK_RATE),
+            Constants.MAX_STEPS_PER_FRAME);
 
     new AnimationTimer() {
-      private long lastUpdate = 0;
-
       @Override
       public void handle(long now) {
-        if (now - lastUpdate >= TARGET_FPS_NANO) {
-          final float deltaTime = (now - lastUpdate) / 1_000_000_000f;
-          world.update(deltaTime);
-          lastUpdate = now;
-        }
+        loop.advanceTo(now);
+        renderingSystem.render(world, loop.alpha());
       }
     }.start();
 
@@ -82,4 +96,12 @@ public class DonkeyKongRushUI extends Application {
     primaryStage.setResizable(false);
     primaryStage.toFront();
   }
+
+  private static void save(final InputRecorder recorder, final World world, final Path file) {
+    try {
+      recorder.finish(world).save(file);
+    } catch (final IOException e) {
+      System.err.println("Cannot save the input recording: " + e.getMessage());
+    }
+  }
 }
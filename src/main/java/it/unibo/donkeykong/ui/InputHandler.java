@@ -5,7 +5,6 @@ import static it.unibo.donkeykong.ecs.component.InputComponent.VerticalInput.*;
 
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.InputComponent;
-import java.util.List;
 import java.util.function.Consumer;
 import javafx.scene.input.KeyCode;
 
@@ -86,8 +85,6 @@ public class InputHandler {
   }
 
   private void applyToInput(final Consumer<InputComponent> inputLogic) {
-    world
-        .getEntitiesWithComponents(List.of(InputComponent.class))
-        .forEach(e -> e.getComponent(InputComponent.class).ifPresent(inputLogic));
+    world.forEach(InputComponent.class, (entity, input) -> inputLogic.accept(input));
   }
 }
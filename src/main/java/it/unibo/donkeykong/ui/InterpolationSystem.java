@@ -0,0 +1,114 @@
+package it.unibo.donkeykong.ui;
+
+import it.unibo.donkeykong.core.api.MotionView;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * InterpolationSystem records the position of moving entities before each simulation step, so
+ * that rendering can place them between their previous and current positions. It must be added to
+ * the world before the systems moving the entities. The previous positions only serve the display,
+ * so they are kept in arrays of this system indexed by entity id rather than in components: the
+ * entities keep their archetype, and snapshots of the world never copy them.
+ */
+public class InterpolationSystem implements GameSystem {
+
+  private static final List<Class<? extends Component>> MOVING_ENTITIES =
+      List.of(PositionComponent.class, VelocityComponent.class);
+  private static final int INITIAL_CAPACITY = 64;
+
+  private long step;
+  private long[] stepOfEntity;
+  private long[] handleOfEntity;
+  private double[] previousX;
+  private double[] previousY;
+
+  /** Constructor for InterpolationSystem, with no position recorded. */
+  public InterpolationSystem() {
+    this.step = 0;
+    this.stepOfEntity = new long[INITIAL_CAPACITY];
+    this.handleOfEntity = new long[INITIAL_CAPACITY];
+    this.previousX = new double[INITIAL_CAPACITY];
+    this.previousY = new double[INITIAL_CAPACITY];
+  }
+
+  @Override
+  public void update(World world, float deltaTime) {
+    final MotionView motion = world.motion();
+    this.step++;
+    world
+        .query(MOVING_ENTITIES)
+        .forEach(entity -> record(entity, motion.x(entity), motion.y(entity)));
+  }
+
+  private void record(final Entity entity, final double x, final double y) {
+    final int id = entity.getId();
+    if (id >= this.stepOfEntity.length) {
+      final int capacity = Math.max(this.stepOfEntity.length * 2, id + 1);
+      this.stepOfEntity = Arrays.copyOf(this.stepOfEntity, capacity);
+      this.handleOfEntity = Arrays.copyOf(this.handleOfEntity, capacity);
+      this.previousX = Arrays.copyOf(this.previousX, capacity);
+      this.previousY = Arrays.copyOf(this.previousY, capacity);
+    }
+    this.stepOfEntity[id] = this.step;
+    this.handleOfEntity[id] = entity.getHandle();
+    this.previousX[id] = x;
+    this.previousY[id] = y;
+  }
+
+  /**
+   * Places the x-coordinate of an entity between its previous and current positions. An entity
+   * that did not move during the last step, such as one created by it, is placed at its current
+   * position.
+   *
+   * @param entity the entity to place
+   * @param current the current x-coordinate of the entity
+   * @param alpha how far between the previous and the current position, from 0 to 1
+   * @return the interpolated x-coordinate
+   */
+  public double x(final Entity entity, final double current, final double alpha) {
+    return moved(entity) ? lerp(this.previousX[entity.getId()], current, alpha) : current;
+  }
+
+  /**
+   * Places the y-coordinate of an entity between its previous and current positions, as {@link
+   * #x(Entity, double, double)} does.
+   *
+   * @param entity the entity to place
+   * @param current the current y-coordinate of the entity
+   * @param alpha how far between the previous and the current position, from 0 to 1
+   * @return the interpolated y-coordinate
+   */
+  public double y(final Entity entity, final double current, final double alpha) {
+    return moved(entity) ? lerp(this.previousY[entity.getId()], current, alpha) : current;
+  }
+
+  private boolean moved(final Entity entity) {
+    final int id = entity.getId();
+    return this.step > 0
+        && id < this.stepOfEntity.length
+        && this.stepOfEntity[id] == this.step
+        && this.handleOfEntity[id] == entity.getHandle();
+  }
+
+  private static double lerp(final double previous, final double current, final double alpha) {
+    return previous + (current - previous) * alpha;
+  }
+
+  @Override
+  public Set<Class<? extends Component>> reads() {
+    return Set.of(PositionComponent.class, VelocityComponent.class);
+  }
+
+  @Override
+  public Set<Class<? extends Component>> writes() {
+    return Set.of();
+  }
+}
@@ -5,6 +5,7 @@ import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
 import it.unibo.donkeykong.ecs.component.StateComponent.State;
 import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
 import java.util.*;
@@ -22,8 +23,26 @@ public class RenderingSystem implements GameSystem {
   private final double scaleY;
   private final Image backgroundImage;
   private final Map<String, Image> sourceImageCache = new HashMap<>();
+  private final boolean drawLevel;
+  private final InterpolationSystem interpolation;
+  private double alpha;
 
-  public RenderingSystem(final Canvas canvas) {
+  public RenderingSystem(final Canvas canvas, final InterpolationSystem interpolation) {
+    this(canvas, interpolation, false);
+  }
+
+  /**
+   * Constructor for RenderingSystem, drawing the platforms and the ladders of the world in place of
+   * the background when they are not those of the map of the game, such as in a scenario.
+   *
+   * @param canvas the canvas to draw on
+   * @param interpolation the system recording the previous positions of the moving entities
+   * @param drawLevel whether to draw the platforms and the ladders instead of the background
+   */
+  public RenderingSystem(
+      final Canvas canvas, final InterpolationSystem interpolation, final boolean drawLevel) {
+    this.drawLevel = drawLevel;
+    this.interpolation = interpolation;
     this.context = canvas.getGraphicsContext2D();
     this.context.setImageSmoothing(false);
     this.assetCache = new HashMap<>();
@@ -90,56 +109,88 @@ public class RenderingSystem implements GameSystem {
 
   @Override
   public void update(World world, float deltaTime) {
+    render(world, 1);
+  }
+
+  /**
+   * Draws the world, placing the moving entities between their previous and current positions.
+   *
+   * @param world the world to draw
+   * @param alpha how far the frame is between the previous simulation step and the current one,
+   *     from 0 for the previous positions to 1 for the current ones
+   */
+  public void render(World world, double alpha) {
+    this.alpha = alpha;
     context.save();
     context.scale(scaleX, scaleY);
     context.clearRect(0, 0, Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
-    context.drawImage(this.backgroundImage, 0, 0, Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
-    for (final Entity entity :
-        world.getEntitiesWithComponents(List.of(PositionComponent.class, GraphicComponent.class))) {
-      final PositionComponent position = entity.getComponent(PositionComponent.class).orElseThrow();
-      final GraphicComponent graphic = entity.getComponent(GraphicComponent.class).orElseThrow();
-      final Optional<AnimationComponent> optAnimation =
-          entity.getComponent(AnimationComponent.class);
-      final Optional<StateComponent> optState = entity.getComponent(StateComponent.class);
-      final double renderPositionY = position.y() - (graphic.scaledHeight() / 2);
-      final double renderPositionX = position.x() - (graphic.scaledWidth() / 2);
-      if (optAnimation.isPresent() && optState.isPresent()) {
-        final AnimationComponent animation = optAnimation.get();
-        final State state = optState.get().state();
-        if (!assetCache.containsKey(graphic.path())) {
-          assetCache.put(graphic.path(), new HashMap<>());
-        }
-        final Map<State, List<Image>> stateMap = assetCache.get(graphic.path());
-        if (!stateMap.containsKey(state)) {
-          sliceSpriteSheetFrames(graphic, state, stateMap);
-        }
-        final List<Image> frames = stateMap.get(state);
-        if (!frames.isEmpty()
-            && frames.size() > animation.frameIndex()
-            && frames.get(animation.frameIndex()) != null) {
-          final Image image = frames.get(animation.frameIndex());
-          if (optState.get().direction().equals(StateComponent.Direction.LEFT)) {
-            context.save();
-            context.translate(renderPositionX + graphic.scaledWidth(), 0);
-            context.scale(-1, 1);
-            context.drawImage(
-                image, 0, renderPositionY, graphic.scaledWidth(), graphic.scaledHeight());
-            context.restore();
-          } else {
-            context.drawImage(
-                image,
-                renderPositionX,
-                renderPositionY,
-                graphic.scaledWidth(),
-                graphic.scaledHeight());
-          }
+    if (this.drawLevel) {
+      context.setFill(Color.BLACK);
+      context.fillRect(0, 0, Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
+      drawLevelShapes(world, SolidComponent.class, Color.CRIMSON);
+      drawLevelShapes(world, ClimbableComponent.class, Color.DEEPSKYBLUE);
+    } else {
+      context.drawImage(
+          this.backgroundImage, 0, 0, Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
+    }
+    world.forEach(
+        PositionComponent.class,
+        GraphicComponent.class,
+        (entity, position, graphic) -> draw(entity, position, graphic));
+    context.restore();
+  }
+
+  private void drawLevelShapes(
+      World world, Class<? extends Component> componentClass, Color color) {
+    context.setFill(color);
+    world.forEach(
+        PositionComponent.class,
+        RectangleCollider.class,
+        componentClass,
+        (entity, position, rectangle, marker) ->
+            context.fillRect(
+                position.x() - rectangle.width() / 2,
+                position.y() - rectangle.height() / 2,
+                rectangle.width(),
+                rectangle.height()));
+  }
+
+  private void draw(Entity entity, PositionComponent current, GraphicComponent graphic) {
+    final Optional<AnimationComponent> optAnimation = entity.getComponent(AnimationComponent.class);
+    final Optional<StateComponent> optState = entity.getComponent(StateComponent.class);
+    final double x = interpolation.x(entity, current.x(), alpha);
+    final double y = interpolation.y(entity, current.y(), alpha);
+    final double renderPositionY = y - (graphic.scaledHeight() / 2);
+    final double renderPositionX = x - (graphic.scaledWidth() / 2);
+    if (optAnimation.isPresent() && optState.isPresent()) {
+      final AnimationComponent animation = optAnimation.get();
+      final State state = optState.get().state();
+      if (!assetCache.containsKey(graphic.path())) {
+        assetCache.put(graphic.path(), new HashMap<>());
+      }
+      final Map<State, List<Image>> stateMap = assetCache.get(graphic.path());
+      if (!stateMap.containsKey(state)) {
+        sliceSpriteSheetFrames(graphic, state, stateMap);
+      }
+      final List<Image> frames = stateMap.get(state);
+      if (!frames.isEmpty()
+          && frames.size() > animation.frameIndex()
+          && frames.get(animation.frameIndex()) != null) {
+        final Image image = frames.get(animation.frameIndex());
+        if (optState.get().direction().equals(StateComponent.Direction.LEFT)) {
+          context.save();
+          context.translate(renderPositionX + graphic.scaledWidth(), 0);
+          context.scale(-1, 1);
+          context.drawImage(
+              image, 0, renderPositionY, graphic.scaledWidth(), graphic.scaledHeight());
+          context.restore();
         } else {
-          entity
-              .getComponent(Collider.class)
-              .ifPresent(
-                  collider ->
-                      drawFallbackShapeBasedOnCollision(
-                          renderPositionX, renderPositionY, collider));
+          context.drawImage(
+              image,
+              renderPositionX,
+              renderPositionY,
+              graphic.scaledWidth(),
+              graphic.scaledHeight());
         }
       } else {
         entity
@@ -148,7 +199,12 @@ public class RenderingSystem implements GameSystem {
                 collider ->
                     drawFallbackShapeBasedOnCollision(renderPositionX, renderPositionY, collider));
       }
+    } else {
+      entity
+          .getComponent(Collider.class)
+          .ifPresent(
+              collider ->
+                  drawFallbackShapeBasedOnCollision(renderPositionX, renderPositionY, collider));
     }
-    context.restore();
   }
 }
@@ -0,0 +1,58 @@
+package it.unibo.donkeykong.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.api.World;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FixedStepLoopTest {
+
+  private static final int TICK_RATE = 50;
+  private static final long STEP_NANOS = 1_000_000_000L / TICK_RATE;
+  private static final int MAX_STEPS_PER_FRAME = 4;
+  private static final long START = 123_456_789L;
+
+  private List<Float> deltaTimes;
+  private FixedStepLoop loop;
+
+  @BeforeEach
+  void setUp() {
+    World world = new WorldImpl();
+    deltaTimes = new ArrayList<>();
+    world.addSystem((currentWorld, deltaTime) -> deltaTimes.add(deltaTime));
+    loop = new FixedStepLoop(world, TICK_RATE, MAX_STEPS_PER_FRAME);
+  }
+
+  @Test
+  void testFirstFrameOnlySetsOrigin() {
+    assertEquals(0, loop.advanceTo(START));
+    assertTrue(deltaTimes.isEmpty());
+    assertEquals(0, loop.alpha());
+  }
+
+  @Test
+  void testStepsHaveFixedLength() {
+    loop.advanceTo(START);
+    assertEquals(2, loop.advanceTo(START + STEP_NANOS * 5 / 2));
+    assertEquals(0.5, loop.alpha(), 1e-9);
+    assertEquals(1, loop.advanceTo(START + STEP_NANOS * 3));
+    assertEquals(0, loop.alpha(), 1e-9);
+    assertEquals(List.of(0.02f, 0.02f, 0.02f), deltaTimes);
+  }
+
+  @Test
+  void testCatchUpIsCapped() {
+    loop.advanceTo(START);
+    assertEquals(MAX_STEPS_PER_FRAME, loop.advanceTo(START + STEP_NANOS * 100 + STEP_NANOS / 4));
+    assertEquals(0.25, loop.alpha(), 1e-9);
+    assertEquals(1, loop.advanceTo(START + STEP_NANOS * 101 + STEP_NANOS / 4));
+  }
+
+  @Test
+  void testInvalidTickRateIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new FixedStepLoop(new WorldImpl(), 0, 1));
+  }
+}
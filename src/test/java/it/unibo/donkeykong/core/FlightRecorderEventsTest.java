@@ -0,0 +1,92 @@
+package it.unibo.donkeykong.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.CircleCollider;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.component.GravityComponent;
+import it.unibo.donkeykong.ecs.system.CollisionSystem;
+import it.unibo.donkeykong.ecs.system.GravitySystem;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+public class FlightRecorderEventsTest {
+
+  private static final float DELTA_TIME = 0.016f;
+  private static final int UPDATES = 3;
+
+  @Test
+  void testUpdatesEmitEventsWithTheGameProfile() throws Exception {
+    Configuration configuration;
+    try (Reader profile =
+        new InputStreamReader(getClass().getResourceAsStream("/jfr/donkeykong.jfc"))) {
+      configuration = Configuration.create(profile);
+    }
+    World world = new WorldImpl();
+    world.addSystem(new CollisionSystem());
+    world.addSystem(new GravitySystem());
+    world
+        .createEntity()
+        .addComponent(new PositionComponent(0, 0))
+        .addComponent(new VelocityComponent(0, 0))
+        .addComponent(new CircleCollider(10));
+    world
+        .createEntity()
+        .addComponent(new GravityComponent(1))
+        .addComponent(new VelocityComponent(0, 0));
+    world
+        .createEntity()
+        .addComponent(new PositionComponent(5, 0))
+        .addComponent(new CircleCollider(10));
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording(configuration)) {
+      recording.start();
+      for (int count = 0; count < UPDATES; count++) {
+        world.update(DELTA_TIME);
+      }
+      recording.stop();
+      events = read(recording);
+    }
+    List<RecordedEvent> ticks = named(events, "it.unibo.donkeykong.WorldTick");
+    assertEquals(UPDATES, ticks.size());
+    for (int count = 0; count < UPDATES; count++) {
+      assertEquals(count + 1, ticks.get(count).getLong("tick"));
+    }
+    assertEquals(3, ticks.get(0).getInt("entities"));
+    List<RecordedEvent> updates = named(events, "it.unibo.donkeykong.SystemUpdate");
+    assertEquals(2 * UPDATES, updates.size());
+    assertEquals(
+        UPDATES,
+        updates.stream()
+            .filter(update -> update.getString("system").equals("CollisionSystem"))
+            .count());
+    RecordedEvent check = named(events, "it.unibo.donkeykong.CollisionCheck").get(0);
+    assertEquals(1, check.getLong("testedPairs"));
+    assertEquals(1, check.getLong("collidingPairs"));
+  }
+
+  private static List<RecordedEvent> read(Recording recording) throws IOException {
+    Path file = Files.createTempFile("donkeykong", ".jfr");
+    try {
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+  }
+}
@@ -0,0 +1,125 @@
+package it.unibo.donkeykong.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.SystemScheduler.ScheduledSystem;
+import it.unibo.donkeykong.core.api.SystemRate;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.CircleCollider;
+import it.unibo.donkeykong.ecs.component.CollisionEventComponent;
+import it.unibo.donkeykong.ecs.component.GravityComponent;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.entity.EntityFactoryImpl;
+import it.unibo.donkeykong.ecs.system.BoundariesSystem;
+import it.unibo.donkeykong.ecs.system.ClimbingSystem;
+import it.unibo.donkeykong.ecs.system.CollisionSystem;
+import it.unibo.donkeykong.ecs.system.EventDispatchSystem;
+import it.unibo.donkeykong.ecs.system.GravitySystem;
+import it.unibo.donkeykong.ecs.system.HealthSystem;
+import it.unibo.donkeykong.ecs.system.InputSystem;
+import it.unibo.donkeykong.ecs.system.MovementSystem;
+import it.unibo.donkeykong.ecs.system.PhysicsSystem;
+import it.unibo.donkeykong.ecs.system.SpawnSystem;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+public class SystemSchedulerTest {
+
+  private static final float DELTA_TIME = 0.016f;
+  private static final int UPDATES = 50;
+
+  private static List<GameSystem> systems() {
+    return List.of(
+        new CollisionSystem(),
+        new GravitySystem(),
+        new EventDispatchSystem(),
+        new MovementSystem(),
+        new BoundariesSystem());
+  }
+
+  private static List<Entity> populate(World world) {
+    for (GameSystem system : systems()) {
+      world.addSystem(system);
+    }
+    return List.of(
+        world
+            .createEntity()
+            .addComponent(new PositionComponent(100, 100))
+            .addComponent(new VelocityComponent(30, 0))
+            .addComponent(new GravityComponent(2))
+            .addComponent(new CircleCollider(10)),
+        world
+            .createEntity()
+            .addComponent(new PositionComponent(120, 100))
+            .addComponent(new VelocityComponent(-30, 0))
+            .addComponent(new CircleCollider(10)));
+  }
+
+  @Test
+  void testWavesGroupSystemsWithoutConflicts() {
+    SystemScheduler scheduler = new SystemScheduler(ForkJoinPool.commonPool());
+    systems().forEach(system -> scheduler.add(system, SystemRate.everyTick()));
+    List<List<ScheduledSystem>> waves = scheduler.waves();
+    assertEquals(List.of(1, 2, 1, 1), waves.stream().map(List::size).toList());
+    assertTrue(waves.get(1).get(0).system() instanceof GravitySystem);
+    assertTrue(waves.get(1).get(1).system() instanceof EventDispatchSystem);
+  }
+
+  @Test
+  void testGameSystemsShareASingleWave() {
+    SystemScheduler scheduler = new SystemScheduler(ForkJoinPool.commonPool());
+    List.of(
+            new MovementSystem(),
+            new BoundariesSystem(),
+            new CollisionSystem(),
+            new PhysicsSystem(),
+            new HealthSystem(),
+            new SpawnSystem(new EntityFactoryImpl(new WorldImpl())),
+            new ClimbingSystem(),
+            new InputSystem(),
+            new GravitySystem(),
+            new EventDispatchSystem())
+        .forEach(system -> scheduler.add(system, SystemRate.everyTick()));
+    List<List<ScheduledSystem>> waves = scheduler.waves();
+    assertEquals(List.of(1, 1, 1, 1, 1, 1, 1, 1, 2), waves.stream().map(List::size).toList());
+    assertTrue(waves.get(8).get(0).system() instanceof GravitySystem);
+  }
+
+  @Test
+  void testSerialSchedulerUpdatesSystemsOneByOne() {
+    SystemScheduler scheduler = new SystemScheduler(null);
+    systems().forEach(system -> scheduler.add(system, SystemRate.everyTick()));
+    assertEquals(systems().size(), scheduler.waves().size());
+  }
+
+  @Test
+  void testParallelUpdateMatchesSerialUpdate() {
+    World serial = new WorldImpl();
+    World parallel = new WorldImpl(StorageLayout.OBJECTS, ForkJoinPool.commonPool());
+    List<Entity> serialEntities = populate(serial);
+    List<Entity> parallelEntities = populate(parallel);
+    for (int count = 0; count < UPDATES; count++) {
+      serial.update(DELTA_TIME);
+      parallel.update(DELTA_TIME);
+      for (int i = 0; i < serialEntities.size(); i++) {
+        Entity expected = serialEntities.get(i);
+        Entity actual = parallelEntities.get(i);
+        assertEquals(
+            expected.requireComponent(PositionComponent.class),
+            actual.requireComponent(PositionComponent.class));
+        assertEquals(
+            expected.requireComponent(VelocityComponent.class),
+            actual.requireComponent(VelocityComponent.class));
+        assertEquals(
+            expected.hasComponent(CollisionEventComponent.class),
+            actual.hasComponent(CollisionEventComponent.class));
+        assertEquals(expected.hasComponent(Collider.class), actual.hasComponent(Collider.class));
+      }
+    }
+  }
+}
@@ -2,11 +2,24 @@ package it.unibo.donkeykong.core;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import it.unibo.donkeykong.core.api.Prefab;
+import it.unibo.donkeykong.core.api.Query;
+import it.unibo.donkeykong.core.api.SystemRate;
 import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.core.api.WorldSnapshot;
+import it.unibo.donkeykong.ecs.component.HealthComponent;
+import it.unibo.donkeykong.ecs.component.InputComponent;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.StateComponent;
+import it.unibo.donkeykong.ecs.component.StateComponent.Direction;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
 import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,8 +30,13 @@ public class WorldTest {
 
   private static final class AnotherComponent implements Component {}
 
+  private interface MarkerComponent extends Component {}
+
+  private static final class MarkedComponent implements MarkerComponent {}
+
   private static final long DELTA_TIME = 20L;
   private static final int UPDATES = 100;
+  private static final int PARALLEL_ENTITIES = 10_000;
 
   private World world;
 
@@ -137,6 +155,33 @@ public class WorldTest {
     assertEquals(1, components.size(), "Should only be one component.");
   }
 
+  @Test
+  void testComponentsSurviveArchetypeChanges() {
+    TestComponent first = new TestComponent();
+    TestComponent second = new TestComponent();
+    AnotherComponent another = new AnotherComponent();
+    Entity entity = world.createEntity().addComponent(first);
+    Entity other = world.createEntity().addComponent(second).addComponent(another);
+    entity.addComponent(another);
+    other.removeComponent(another);
+    assertEquals(Set.of(first, another), world.getComponentsOfEntity(entity));
+    assertEquals(Set.of(second), world.getComponentsOfEntity(other));
+    assertEquals(Set.of(entity), world.getEntitiesWithComponents(List.of(AnotherComponent.class)));
+  }
+
+  @Test
+  void testTypedComponentLookup() {
+    TestComponent component = new TestComponent();
+    Entity entity = world.createEntity().addComponent(component);
+    assertTrue(entity.hasComponent(TestComponent.class));
+    assertTrue(entity.hasComponent(Component.class));
+    assertFalse(entity.hasComponent(AnotherComponent.class));
+    assertSame(component, entity.requireComponent(TestComponent.class));
+    assertNull(world.getComponentOfEntity(entity, AnotherComponent.class));
+    assertThrows(
+        NoSuchElementException.class, () -> entity.requireComponent(AnotherComponent.class));
+  }
+
   @Test
   void testEntityIdsAreUnique() {
     Entity entity = world.createEntity();
@@ -154,6 +199,21 @@ public class WorldTest {
     assertNotEquals(entityGeneratedAfter, anotherEntity);
   }
 
+  @Test
+  void testStaleEntityDoesNotAliasReusedId() {
+    Entity entity = world.createEntity().addComponent(new TestComponent());
+    world.removeEntity(entity);
+    Entity reused = world.createEntity().addComponent(new AnotherComponent());
+    assertEquals(entity.getId(), reused.getId());
+    assertNotEquals(entity, reused);
+    assertFalse(entity.isAlive());
+    assertTrue(reused.isAlive());
+    assertFalse(entity.hasComponent(AnotherComponent.class));
+    world.removeEntity(entity);
+    assertTrue(reused.isAlive());
+    assertEquals(Set.of(reused), world.getEntitiesWithComponents(List.of()));
+  }
+
   @Test
   void testGetEntitiesWithComponent() {
     Entity e1 =
@@ -168,6 +228,255 @@ public class WorldTest {
     assertEquals(Set.of(e1, e3), entitiesWithAnotherComponent);
   }
 
+  @Test
+  void testQueryIsLiveView() {
+    Query query = world.query(List.of(TestComponent.class, AnotherComponent.class));
+    assertSame(query, world.query(List.of(TestComponent.class, AnotherComponent.class)));
+    assertTrue(query.isEmpty());
+    AnotherComponent another = new AnotherComponent();
+    Entity entity = world.createEntity().addComponent(new TestComponent()).addComponent(another);
+    world.createEntity().addComponent(new TestComponent());
+    assertEquals(1, query.size());
+    Set<Entity> matched = new HashSet<>();
+    query.forEach(matched::add);
+    assertEquals(Set.of(entity), matched);
+    entity.removeComponent(another);
+    assertTrue(query.isEmpty());
+  }
+
+  @Test
+  void testQueryByInterfaceMatchesTypesRegisteredLater() {
+    Query query = world.query(List.of(MarkerComponent.class));
+    assertTrue(query.isEmpty());
+    MarkedComponent component = new MarkedComponent();
+    Entity entity = world.createEntity().addComponent(component);
+    assertEquals(1, query.size());
+    assertSame(component, entity.requireComponent(MarkerComponent.class));
+    assertEquals(Set.of(entity), world.getEntitiesWithComponents(List.of(MarkerComponent.class)));
+  }
+
+  @Test
+  void testStructureOfArraysCopiesRecords() {
+    World soaWorld = new WorldImpl(StorageLayout.STRUCTURE_OF_ARRAYS);
+    PositionComponent position = new PositionComponent(1, 2);
+    Entity entity = soaWorld.createEntity().addComponent(position);
+    entity.addComponent(new VelocityComponent(3, 4)).addComponent(new TestComponent());
+    assertEquals(position, entity.requireComponent(PositionComponent.class));
+    assertNotSame(position, entity.requireComponent(PositionComponent.class));
+    soaWorld.motion().setPosition(entity, 5, 6);
+    assertEquals(new PositionComponent(5, 6), entity.requireComponent(PositionComponent.class));
+    entity.removeComponent(entity.requireComponent(TestComponent.class));
+    assertEquals(4, soaWorld.motion().dy(entity));
+    assertThrows(NoSuchElementException.class, () -> soaWorld.motion().x(soaWorld.createEntity()));
+  }
+
+  @Test
+  void testPackedLayoutEncodesRecords() {
+    World packedWorld = new WorldImpl(StorageLayout.PACKED);
+    StateComponent state = new StateComponent(StateComponent.State.JUMP, Direction.LEFT);
+    Entity first = packedWorld.createEntity().addComponent(new PositionComponent(1, 2));
+    Entity second = packedWorld.createEntity().addComponent(new PositionComponent(3, 4));
+    first.addComponent(state).addComponent(new HealthComponent(3));
+    first.addComponent(new VelocityComponent(5, 6)).addComponent(new TestComponent());
+    packedWorld.motion().setVelocity(first, 7, 8);
+    WorldSnapshot snapshot = packedWorld.snapshot();
+    packedWorld.removeEntity(second);
+    first.updateComponent(new HealthComponent(2));
+    assertEquals(new PositionComponent(1, 2), first.requireComponent(PositionComponent.class));
+    assertEquals(new VelocityComponent(7, 8), first.requireComponent(VelocityComponent.class));
+    assertEquals(state, first.requireComponent(StateComponent.class));
+    assertEquals(new HealthComponent(2), first.requireComponent(HealthComponent.class));
+    packedWorld.restore(snapshot);
+    assertEquals(new HealthComponent(3), first.requireComponent(HealthComponent.class));
+    assertEquals(new PositionComponent(3, 4), second.requireComponent(PositionComponent.class));
+  }
+
+  @Test
+  void testMotionViewReplacesRecords() {
+    PositionComponent position = new PositionComponent(1, 2);
+    Entity entity = world.createEntity().addComponent(position);
+    world.motion().setPosition(entity, 5, world.motion().y(entity));
+    assertEquals(new PositionComponent(5, 2), entity.requireComponent(PositionComponent.class));
+    assertFalse(world.getComponentsOfEntity(entity).contains(position));
+  }
+
+  @Test
+  void testCommandsAreAppliedAfterSystemUpdate() {
+    Entity removed = world.createEntity().addComponent(new TestComponent());
+    Entity tagged = world.createEntity().addComponent(new TestComponent());
+    Query query = world.query(List.of(TestComponent.class));
+    world.addSystem(
+        (w, deltaTime) ->
+            query.forEach(
+                entity -> {
+                  if (entity.equals(removed)) {
+                    w.commands().removeEntity(entity);
+                  } else {
+                    w.commands().addComponent(entity, new AnotherComponent());
+                    w.commands().createEntity(new TestComponent(), new AnotherComponent());
+                  }
+                  assertEquals(2, query.size());
+                }));
+    world.update(DELTA_TIME);
+    assertTrue(world.commands().isEmpty());
+    assertFalse(removed.isAlive());
+    assertTrue(tagged.hasComponent(AnotherComponent.class));
+    assertEquals(2, world.getEntitiesWithComponents(List.of(AnotherComponent.class)).size());
+  }
+
+  @Test
+  void testTypedForEachPassesStoredComponents() {
+    TestComponent first = new TestComponent();
+    MarkedComponent second = new MarkedComponent();
+    Entity entity = world.createEntity().addComponent(first).addComponent(second);
+    world.createEntity().addComponent(new TestComponent());
+    List<Entity> visited = new ArrayList<>();
+    world.forEach(
+        TestComponent.class,
+        MarkerComponent.class,
+        (e, test, marker) -> {
+          assertSame(first, test);
+          assertSame(second, marker);
+          visited.add(e);
+        });
+    assertEquals(List.of(entity), visited);
+    world.forEach(TestComponent.class, (e, test) -> visited.add(e));
+    assertEquals(3, visited.size());
+  }
+
+  @Test
+  void testQueryReportsChangesSinceTick() {
+    Entity moving = world.createEntity().addComponent(new PositionComponent(0, 0));
+    Entity still = world.createEntity().addComponent(new PositionComponent(1, 1));
+    Query query = world.query(List.of(PositionComponent.class));
+    world.addSystem((w, deltaTime) -> w.motion().setPosition(moving, 2, 2));
+    final int setupTick = world.currentTick();
+    world.update(DELTA_TIME);
+    still.addComponent(new TestComponent());
+    Set<Entity> changed = new HashSet<>();
+    query.forEachChanged(PositionComponent.class, setupTick, changed::add);
+    assertEquals(Set.of(moving), changed);
+    Set<Entity> added = new HashSet<>();
+    query.forEachAdded(PositionComponent.class, setupTick - 1, added::add);
+    assertEquals(Set.of(moving, still), added);
+    added.clear();
+    query.forEachAdded(PositionComponent.class, setupTick, added::add);
+    assertTrue(added.isEmpty());
+    changed.clear();
+    query.forEachChanged(PositionComponent.class, world.currentTick(), changed::add);
+    assertTrue(changed.isEmpty());
+  }
+
+  @Test
+  void testObserversMaintainIndex() {
+    Set<Entity> index = new HashSet<>();
+    List<Component> replaced = new ArrayList<>();
+    world.onAdd(MarkerComponent.class, (entity, marker) -> index.add(entity));
+    world.onRemove(MarkerComponent.class, (entity, marker) -> index.remove(entity));
+    world.onReplace(MarkerComponent.class, (entity, previous, marker) -> replaced.add(previous));
+    MarkedComponent marker = new MarkedComponent();
+    Entity first = world.createEntity().addComponent(marker);
+    Entity second = world.createEntity().addComponent(new MarkedComponent());
+    world.createEntity().addComponent(new TestComponent());
+    assertEquals(Set.of(first, second), index);
+    first.updateComponent(new MarkedComponent());
+    assertEquals(List.of(marker), replaced);
+    first.removeComponent(first.requireComponent(MarkerComponent.class));
+    world.removeEntity(second);
+    assertTrue(index.isEmpty());
+  }
+
+  @Test
+  void testRestoreSnapshot() {
+    Entity kept = world.createEntity().addComponent(new PositionComponent(1, 1));
+    Entity removed = world.createEntity().addComponent(new TestComponent());
+    InputComponent input = new InputComponent();
+    kept.addComponent(input);
+    WorldSnapshot snapshot = world.snapshot();
+    world.motion().setPosition(kept, 2, 2);
+    input.setJumpPressed(true);
+    world.removeEntity(removed);
+    world.createEntity().addComponent(new TestComponent());
+    world.restore(snapshot);
+    assertEquals(new PositionComponent(1, 1), kept.requireComponent(PositionComponent.class));
+    assertFalse(kept.requireComponent(InputComponent.class).isJumpPressed());
+    assertTrue(removed.isAlive());
+    assertEquals(Set.of(removed), world.getEntitiesWithComponents(List.of(TestComponent.class)));
+    kept.requireComponent(InputComponent.class).setJumpPressed(true);
+    world.motion().setPosition(kept, 3, 3);
+    world.restore(snapshot);
+    assertEquals(new PositionComponent(1, 1), kept.requireComponent(PositionComponent.class));
+    assertFalse(kept.requireComponent(InputComponent.class).isJumpPressed());
+  }
+
+  @Test
+  void testCreateEntitiesFromPrefab() {
+    Prefab prefab =
+        Prefab.of(new PositionComponent(1, 1), new HealthComponent(3), new InputComponent());
+    List<Entity> entities = world.createEntities(prefab.with(new HealthComponent(2)), 100);
+    assertEquals(100, entities.size());
+    assertEquals(100, world.getEntitiesWithComponents(List.of(InputComponent.class)).size());
+    Entity first = entities.get(0);
+    Entity last = entities.get(99);
+    assertEquals(new HealthComponent(2), last.requireComponent(HealthComponent.class));
+    assertSame(
+        first.requireComponent(PositionComponent.class),
+        last.requireComponent(PositionComponent.class));
+    assertNotSame(
+        first.requireComponent(InputComponent.class), last.requireComponent(InputComponent.class));
+  }
+
+  @Test
+  void testCreateEntitiesFromPrefabWithOverrides() {
+    Prefab prefab = Prefab.of(new PositionComponent(0, 0), new HealthComponent(3));
+    List<PositionComponent> added = new ArrayList<>();
+    world.onAdd(PositionComponent.class, (entity, position) -> added.add(position));
+    Entity single = world.createEntity(prefab, new PositionComponent(1, 1));
+    List<Entity> bulk =
+        world.createEntities(
+            prefab,
+            List.of(List.of(new PositionComponent(2, 2)), List.of(new HealthComponent(1))));
+    assertEquals(
+        List.of(
+            new PositionComponent(1, 1), new PositionComponent(2, 2), new PositionComponent(0, 0)),
+        added);
+    assertEquals(new HealthComponent(3), single.requireComponent(HealthComponent.class));
+    assertEquals(new HealthComponent(1), bulk.get(1).requireComponent(HealthComponent.class));
+    assertThrows(
+        IllegalArgumentException.class, () -> world.createEntity(prefab, new InputComponent()));
+    assertEquals(3, world.getEntitiesWithComponents(List.of(HealthComponent.class)).size());
+  }
+
+  @Test
+  void testParallelForEachDefersCommands() {
+    List<Entity> entities =
+        world.createEntities(Prefab.of(new PositionComponent(0, 0)), PARALLEL_ENTITIES);
+    Query query = world.query(List.of(PositionComponent.class));
+    query.parallelForEach(
+        entity -> {
+          world.motion().setPosition(entity, entity.getId(), 1);
+          if (entity.getId() % 2 == 0) {
+            world.commands().removeEntity(entity);
+          }
+        });
+    assertEquals(PARALLEL_ENTITIES, query.size());
+    for (Entity entity : entities) {
+      assertEquals(
+          new PositionComponent(entity.getId(), 1),
+          entity.requireComponent(PositionComponent.class));
+    }
+    world.update(DELTA_TIME);
+    assertEquals(PARALLEL_ENTITIES / 2, query.size());
+    assertFalse(entities.get(0).isAlive());
+    assertTrue(entities.get(1).isAlive());
+  }
+
+  @Test
+  void testRestoreSnapshotOfAnotherWorldFails() {
+    WorldSnapshot snapshot = new WorldImpl().snapshot();
+    assertThrows(IllegalArgumentException.class, () -> world.restore(snapshot));
+  }
+
   @Test
   void testAddSystemAndWorldUpdate() {
     TestSystem testSystem = new TestSystem();
@@ -180,6 +489,42 @@ public class WorldTest {
     assertEquals(UPDATES, testSystem.getUpdateCount());
   }
 
+  @Test
+  void testSystemRateAccumulatesDeltaTime() {
+    TestSystem everyFourTicks = new TestSystem();
+    TestSystem everyFiftySeconds = new TestSystem();
+    world.addSystem(everyFourTicks, SystemRate.everyTicks(4));
+    world.addSystem(everyFiftySeconds, SystemRate.every(50));
+    for (int count = 0; count < UPDATES; count++) {
+      world.update(DELTA_TIME);
+    }
+    assertEquals(UPDATES / 4, everyFourTicks.getUpdateCount());
+    assertEquals(DELTA_TIME * 4, everyFourTicks.getDeltaTime());
+    assertEquals(UPDATES / 3, everyFiftySeconds.getUpdateCount());
+    assertEquals(DELTA_TIME * 3, everyFiftySeconds.getDeltaTime());
+    assertThrows(IllegalArgumentException.class, () -> SystemRate.everyTicks(0));
+    assertThrows(IllegalArgumentException.class, () -> new SystemRate(2, 1));
+  }
+
+  @Test
+  void testDisabledSystemIsSkipped() {
+    TestSystem testSystem = new TestSystem();
+    world.addSystem(testSystem, SystemRate.everyTicks(2));
+    world.update(DELTA_TIME);
+    world.setSystemEnabled(testSystem, false);
+    for (int count = 0; count < UPDATES; count++) {
+      world.update(DELTA_TIME);
+    }
+    assertEquals(0, testSystem.getUpdateCount());
+    world.setSystemEnabled(testSystem, true);
+    world.update(DELTA_TIME);
+    world.update(DELTA_TIME);
+    assertEquals(1, testSystem.getUpdateCount());
+    assertEquals(DELTA_TIME * 2, testSystem.getDeltaTime());
+    assertThrows(
+        IllegalArgumentException.class, () -> world.setSystemEnabled(new TestSystem(), false));
+  }
+
   @Test
   void testSystemCanQueryCorrectEntitiesAfterUpdate() {
     TestSystem testSystem = new TestSystem();
@@ -11,12 +11,18 @@ import it.unibo.donkeykong.ecs.component.api.Component;
 import it.unibo.donkeykong.ecs.entity.EntityFactoryImpl;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
 import it.unibo.donkeykong.ecs.entity.api.EntityFactory;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class FactoryTest {
 
+  private static final int SNAPSHOT_ENTITIES = 10_000;
+
   private World world;
   private EntityFactory entityFactory;
 
@@ -196,4 +202,51 @@ public class FactoryTest {
     assertComponentPresence(ladder, ClimbableComponent.class);
     assertComponentPresence(ladder, RectangleCollider.class, testCollider);
   }
+
+  @Test
+  void testCreatePlatforms() {
+    Map<PositionComponent, RectangleCollider> platforms =
+        Map.of(
+            new PositionComponent(10, 10),
+            new RectangleCollider(40, 20),
+            new PositionComponent(90, 10),
+            new RectangleCollider(60, 20));
+    List<Entity> created = entityFactory.createPlatforms(platforms);
+
+    assertEquals(platforms.size(), created.size());
+    for (Entity platform : created) {
+      PositionComponent pos = platform.requireComponent(PositionComponent.class);
+      assertComponentPresence(platform, SolidComponent.class);
+      assertComponentPresence(platform, RectangleCollider.class, platforms.get(pos));
+    }
+  }
+
+  @Test
+  void testEntitiesAreObservedWithTheirOwnComponents() {
+    List<Component> added = new ArrayList<>();
+    world.onAdd(RectangleCollider.class, (entity, collider) -> added.add(collider));
+    world.onAdd(VelocityComponent.class, (entity, velocity) -> added.add(velocity));
+    RectangleCollider collider = new RectangleCollider(100, 20);
+    entityFactory.createPlatform(new PositionComponent(50, 50), collider);
+    entityFactory.createLadders(Map.of(new PositionComponent(30, 60), collider));
+    entityFactory.createBarrel(BARREL_VELOCITY);
+
+    assertEquals(List.of(collider, collider, new VelocityComponent(BARREL_VELOCITY, 0)), added);
+  }
+
+  @Test
+  void testSnapshotOfUnchangedEntitiesDoesNotCopyThem() {
+    var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    entityFactory.createFirstPlayer();
+    for (int i = 0; i < SNAPSHOT_ENTITIES; i++) {
+      entityFactory.createBarrel(i % 2 == 0 ? BARREL_VELOCITY : -BARREL_VELOCITY);
+    }
+    world.snapshot();
+    long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    world.snapshot();
+    long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+    assertTrue(
+        allocated < SNAPSHOT_ENTITIES,
+        "Snapshotting unchanged entities should share them, allocated " + allocated + " bytes.");
+  }
 }
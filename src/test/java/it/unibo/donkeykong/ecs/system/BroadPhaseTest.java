@@ -0,0 +1,125 @@
+package it.unibo.donkeykong.ecs.system;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.StorageLayout;
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.*;
+import it.unibo.donkeykong.ecs.component.api.Collider;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.system.api.BroadPhase;
+import it.unibo.donkeykong.ecs.system.common.BruteForceBroadPhase;
+import it.unibo.donkeykong.ecs.system.common.UniformGridBroadPhase;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class BroadPhaseTest {
+
+  private static final int BODIES = 600;
+  private static final int MARGIN = 100;
+  private static final long SEED = 11;
+  private static final int WARMUP_UPDATES = 200;
+  private static final int MEASURED_UPDATES = 100;
+  private static final int MAX_BYTES_PER_BODY = 8;
+
+  @Test
+  void testGridFindsNearbyBodiesOnly() {
+    World world = new WorldImpl();
+    Entity near = body(world, new PositionComponent(100, 100), new CircleCollider(10));
+    body(world, new PositionComponent(800, 900), new CircleCollider(10));
+    Entity outside = body(world, new PositionComponent(-500, -500), new RectangleCollider(20, 20));
+    BroadPhase grid = new UniformGridBroadPhase();
+    grid.update(world);
+    assertEquals(List.of(near), candidates(grid, new PositionComponent(110, 100)));
+    assertEquals(List.of(outside), candidates(grid, new PositionComponent(-10, -10)));
+    assertThrows(IllegalArgumentException.class, () -> new UniformGridBroadPhase(0));
+  }
+
+  @Test
+  void testGridGivesTheSameCollisionsAsBruteForce() {
+    List<Entity> bruteForce = collide(new BruteForceBroadPhase());
+    List<Entity> grid = collide(new UniformGridBroadPhase(32));
+    for (int i = 0; i < BODIES; i++) {
+      assertEquals(collisions(bruteForce.get(i)), collisions(grid.get(i)));
+    }
+    assertTrue(bruteForce.stream().anyMatch(body -> !collisions(body).isEmpty()));
+  }
+
+  @Test
+  void testGridUpdateDoesNotAllocatePerBody() {
+    var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    for (StorageLayout layout : StorageLayout.values()) {
+      World world = new WorldImpl(layout);
+      for (int i = 0; i < BODIES; i++) {
+        body(world, new PositionComponent(i, i), new CircleCollider(10));
+      }
+      BroadPhase grid = new UniformGridBroadPhase();
+      for (int i = 0; i < WARMUP_UPDATES; i++) {
+        grid.update(world);
+      }
+      long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+      for (int i = 0; i < MEASURED_UPDATES; i++) {
+        grid.update(world);
+      }
+      long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+      assertTrue(
+          allocated / ((long) MEASURED_UPDATES * BODIES) < MAX_BYTES_PER_BODY,
+          "Rebuilding the grid under " + layout + " allocated " + allocated + " bytes.");
+    }
+  }
+
+  private static Entity body(World world, PositionComponent position, Collider collider) {
+    return world.createEntity().addComponent(position).addComponent(collider);
+  }
+
+  private static List<Entity> candidates(BroadPhase broadPhase, PositionComponent position) {
+    List<Entity> found = new ArrayList<>();
+    broadPhase.forEachCandidate(
+        position.x(),
+        position.y(),
+        new CircleCollider(5),
+        (entity, x, y, collider) -> found.add(entity));
+    return found;
+  }
+
+  private static List<Entity> collide(BroadPhase broadPhase) {
+    World world = new WorldImpl();
+    world.addSystem(new CollisionSystem(broadPhase));
+    Random random = new Random(SEED);
+    List<Entity> bodies = new ArrayList<>();
+    for (int i = 0; i < BODIES; i++) {
+      Entity body =
+          world
+              .createEntity()
+              .addComponent(
+                  new PositionComponent(
+                      random.nextInt(Constants.WORLD_WIDTH + 2 * MARGIN) - MARGIN,
+                      random.nextInt(Constants.WORLD_HEIGHT + 2 * MARGIN) - MARGIN))
+              .addComponent(
+                  random.nextBoolean()
+                      ? new CircleCollider(1 + random.nextInt(30))
+                      : new RectangleCollider(1 + random.nextInt(200), 1 + random.nextInt(40)));
+      if (random.nextBoolean()) {
+        body.addComponent(new VelocityComponent(0, 0));
+      }
+      bodies.add(body);
+    }
+    world.update(0);
+    return bodies;
+  }
+
+  private static List<Integer> collisions(Entity body) {
+    return body.getComponent(CollisionEventComponent.class)
+        .map(event -> event.getCollisionsWith(Component.class))
+        .orElse(List.of())
+        .stream()
+        .map(Entity::getId)
+        .toList();
+  }
+}
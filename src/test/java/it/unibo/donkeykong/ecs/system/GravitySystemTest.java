@@ -1,25 +1,37 @@
 package it.unibo.donkeykong.ecs.system;
 
 import static it.unibo.donkeykong.core.Constants.GRAVITY;
+import static it.unibo.donkeykong.core.Constants.REFERENCE_STEP;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import it.unibo.donkeykong.core.StorageLayout;
 import it.unibo.donkeykong.core.WorldImpl;
 import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.CollisionEventComponent;
 import it.unibo.donkeykong.ecs.component.GravityComponent;
+import it.unibo.donkeykong.ecs.component.StateComponent;
+import it.unibo.donkeykong.ecs.component.StateComponent.Direction;
+import it.unibo.donkeykong.ecs.component.StateComponent.State;
 import it.unibo.donkeykong.ecs.component.VelocityComponent;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.lang.management.ManagementFactory;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class GravitySystemTest {
 
-  private static final long DELTA_TIME_IGNORED = 0L;
+  private static final float DELTA_TIME = REFERENCE_STEP;
   private static final double INITIAL_DX = 10.0;
   private static final double INITIAL_DY = 5.0;
   private static final double FLOATING_POINT_DELTA = 0.001;
+  private static final int ENTITIES = 1000;
+  private static final int WARMUP_UPDATES = 2000;
+  private static final int MEASURED_UPDATES = 200;
+  private static final long MAX_BYTES_PER_ENTITY = 8;
 
   private World world;
 
@@ -45,7 +57,7 @@ public class GravitySystemTest {
             .addComponent(new GravityComponent(GRAVITY))
             .addComponent(initialVelocity);
 
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent newVelocity = getVelocityComponent(entity);
 
@@ -65,12 +77,29 @@ public class GravitySystemTest {
         "A new VelocityComponent component instance should have been created.");
   }
 
+  @Test
+  void testGravityScalesWithTheTimeStep() {
+    Entity entity =
+        world
+            .createEntity()
+            .addComponent(new GravityComponent(GRAVITY))
+            .addComponent(new VelocityComponent(INITIAL_DX, INITIAL_DY));
+
+    world.update(2 * DELTA_TIME);
+
+    assertEquals(
+        INITIAL_DY + 2 * GRAVITY,
+        getVelocityComponent(entity).dy(),
+        FLOATING_POINT_DELTA,
+        "A step twice as long should gain twice the gravity.");
+  }
+
   @Test
   void testEntityWithoutGravityIsIgnored() {
     VelocityComponent initialVelocity = new VelocityComponent(INITIAL_DX, INITIAL_DY);
     Entity entity = world.createEntity().addComponent(initialVelocity);
 
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent newVelocity = getVelocityComponent(entity);
 
@@ -93,7 +122,7 @@ public class GravitySystemTest {
   void testEntityWithoutVelocityIsIgnored() {
     Entity entity = world.createEntity().addComponent(new GravityComponent(GRAVITY));
 
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     assertTrue(
         entity.getComponent(VelocityComponent.class).isEmpty(),
@@ -109,7 +138,7 @@ public class GravitySystemTest {
             .addComponent(new GravityComponent(GRAVITY))
             .addComponent(initialVelocity);
 
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent newVelocity = getVelocityComponent(entity);
     assertEquals(
@@ -120,4 +149,37 @@ public class GravitySystemTest {
     assertNotSame(
         initialVelocity, newVelocity, "The component instance should have been replaced.");
   }
+
+  @Test
+  void testUpdateDoesNotAllocatePerEntity() {
+    var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    for (StorageLayout layout : List.of(StorageLayout.STRUCTURE_OF_ARRAYS, StorageLayout.PACKED)) {
+      World layoutWorld = new WorldImpl(layout);
+      layoutWorld.addSystem(new GravitySystem());
+      layoutWorld.addSystem(new ClimbingSystem());
+      for (int i = 0; i < ENTITIES; i++) {
+        layoutWorld
+            .createEntity()
+            .addComponent(new GravityComponent(GRAVITY))
+            .addComponent(new VelocityComponent(INITIAL_DX, INITIAL_DY))
+            .addComponent(new StateComponent(State.IDLE, Direction.RIGHT))
+            .addComponent(new CollisionEventComponent());
+      }
+      for (int i = 0; i < WARMUP_UPDATES; i++) {
+        layoutWorld.update(DELTA_TIME);
+      }
+      long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+      for (int i = 0; i < MEASURED_UPDATES; i++) {
+        layoutWorld.update(DELTA_TIME);
+      }
+      long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+      assertTrue(
+          allocated / ((long) MEASURED_UPDATES * ENTITIES) < MAX_BYTES_PER_ENTITY,
+          "Updating gravity and climbing should not allocate per entity under "
+              + layout
+              + ", allocated "
+              + allocated
+              + " bytes.");
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package it.unibo.donkeykong.ecs.system;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import it.unibo.donkeykong.core.WorldImpl;
 import it.unibo.donkeykong.core.api.World;
@@ -8,6 +9,7 @@ import it.unibo.donkeykong.ecs.component.CollisionEventComponent;
 import it.unibo.donkeykong.ecs.component.DamageComponent;
 import it.unibo.donkeykong.ecs.component.HealthComponent;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.lang.management.ManagementFactory;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,10 @@ public class HealthSystemTest {
   private static final int INITIAL_LIVES = 3;
   private static final int DAMAGE_AMOUNT = 1;
   private static final int EXPECTED_LIVES_AFTER_HIT = INITIAL_LIVES - DAMAGE_AMOUNT;
+  private static final int ENTITIES = 1000;
+  private static final int WARMUP_UPDATES = 2000;
+  private static final int MEASURED_UPDATES = 200;
+  private static final long MAX_BYTES_PER_ENTITY = 8;
 
   private World world;
 
@@ -70,4 +76,28 @@ public class HealthSystemTest {
     world.update(DELTA_TIME_IGNORED);
     assertEquals(0, world.getEntitiesWithComponents(List.of(DamageComponent.class)).size());
   }
+
+  @Test
+  void testUpdateWithoutDamageDoesNotAllocatePerEntity() {
+    var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Entity harmless = world.createEntity();
+    for (int i = 0; i < ENTITIES; i++) {
+      world
+          .createEntity()
+          .addComponent(new HealthComponent(INITIAL_LIVES))
+          .addComponent(
+              i % 2 == 0 ? new CollisionEventComponent() : new CollisionEventComponent(harmless));
+    }
+    for (int i = 0; i < WARMUP_UPDATES; i++) {
+      world.update(DELTA_TIME_IGNORED);
+    }
+    long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    for (int i = 0; i < MEASURED_UPDATES; i++) {
+      world.update(DELTA_TIME_IGNORED);
+    }
+    long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+    assertTrue(
+        allocated / ((long) MEASURED_UPDATES * ENTITIES) < MAX_BYTES_PER_ENTITY,
+        "Checking harmless collisions should not allocate, allocated " + allocated + " bytes.");
+  }
 }
@@ -3,17 +3,24 @@ package it.unibo.donkeykong.ecs.system;
 import static it.unibo.donkeykong.core.Constants.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import it.unibo.donkeykong.core.StorageLayout;
 import it.unibo.donkeykong.core.WorldImpl;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
+import it.unibo.donkeykong.ecs.component.InputComponent.HorizontalInput;
 import it.unibo.donkeykong.ecs.component.StateComponent.*;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.lang.management.ManagementFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class InputSystemTest {
 
-  private static final long DELTA_TIME_IGNORED = 0L;
+  private static final float DELTA_TIME = REFERENCE_STEP;
+  private static final int PLAYERS = 1000;
+  private static final int WARMUP_UPDATES = 2000;
+  private static final int MEASURED_UPDATES = 200;
+  private static final long MAX_BYTES_PER_PLAYER = 8;
 
   private World world;
   private Entity player;
@@ -90,7 +97,7 @@ public class InputSystemTest {
   @Test
   void testHorizontalMovement() {
     playerInput.setCurrentHInput(InputComponent.HorizontalInput.MOVE_RIGHT);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent updatedVelocity = getVelocityComponent(player);
     StateComponent updatedState = getStateComponent(player);
@@ -101,7 +108,7 @@ public class InputSystemTest {
     assertEquals(Direction.RIGHT, updatedState.direction(), "Direction should be RIGHT");
 
     playerInput.setCurrentHInput(InputComponent.HorizontalInput.MOVE_LEFT);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     updatedVelocity = getVelocityComponent(player);
     updatedState = getStateComponent(player);
@@ -114,7 +121,7 @@ public class InputSystemTest {
     assertEquals(Direction.LEFT, updatedState.direction(), "Direction should be LEFT");
 
     playerInput.setCurrentHInput(InputComponent.HorizontalInput.NONE);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     updatedVelocity = getVelocityComponent(player);
 
@@ -126,7 +133,7 @@ public class InputSystemTest {
   void testJump() {
     simulateGrounded();
     playerInput.setJumpPressed(true);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent updatedVelocity = getVelocityComponent(player);
     StateComponent updatedState = getStateComponent(player);
@@ -144,7 +151,7 @@ public class InputSystemTest {
   @Test
   void testJumpAirborne() {
     playerInput.setJumpPressed(true);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent updatedVelocity = getVelocityComponent(player);
     StateComponent updatedState = getStateComponent(player);
@@ -160,7 +167,7 @@ public class InputSystemTest {
     var ladder = simulateClimbing();
     var ladderPos = ladder.getComponent(PositionComponent.class).orElseThrow();
     playerInput.setCurrentVInput(InputComponent.VerticalInput.MOVE_UP);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent updatedVelocity = getVelocityComponent(player);
     StateComponent updatedState = getStateComponent(player);
@@ -176,7 +183,7 @@ public class InputSystemTest {
     assertEquals(updatedPosition.x(), ladderPos.x(), "Player should be aligned with ladder");
 
     playerInput.setCurrentVInput(InputComponent.VerticalInput.MOVE_DOWN);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     updatedVelocity = getVelocityComponent(player);
     updatedState = getStateComponent(player);
@@ -191,7 +198,7 @@ public class InputSystemTest {
     assertEquals(updatedPosition.x(), ladderPos.x(), "Player should be aligned with ladder");
 
     playerInput.setCurrentVInput(InputComponent.VerticalInput.NONE);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     updatedVelocity = getVelocityComponent(player);
     updatedState = getStateComponent(player);
@@ -215,7 +222,7 @@ public class InputSystemTest {
     var ladderEdge = ladderPos + (ladderCollider.width() / 2.0);
     player.updateComponent(new StateComponent(State.UP, Direction.RIGHT));
     playerInput.setCurrentHInput(InputComponent.HorizontalInput.MOVE_RIGHT);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent updatedVelocity = getVelocityComponent(player);
     StateComponent updatedState = getStateComponent(player);
@@ -233,7 +240,7 @@ public class InputSystemTest {
   void testGrounded() {
     simulateGrounded();
     playerInput.setCurrentVInput(InputComponent.VerticalInput.MOVE_UP);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent updatedVelocity = getVelocityComponent(player);
     StateComponent updatedState = getStateComponent(player);
@@ -244,7 +251,7 @@ public class InputSystemTest {
         State.IDLE, updatedState.state(), "State should remain IDLE when grounded and not moving");
 
     playerInput.setCurrentHInput(InputComponent.HorizontalInput.MOVE_RIGHT);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     updatedVelocity = getVelocityComponent(player);
     updatedState = getStateComponent(player);
@@ -255,7 +262,7 @@ public class InputSystemTest {
         State.MOVING, updatedState.state(), "State should be MOVING when moving horizontally");
 
     playerInput.setCurrentVInput(InputComponent.VerticalInput.MOVE_DOWN);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     updatedVelocity = getVelocityComponent(player);
     assertEquals(0, updatedVelocity.dy(), "Vertical velocity should remain zero when grounded");
@@ -265,7 +272,7 @@ public class InputSystemTest {
   void testAirborneNoInput() {
     GravityComponent gravity = player.getComponent(GravityComponent.class).orElseThrow();
     player.updateComponent(new VelocityComponent(0.0, gravity.gravity()));
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent updatedVelocity = getVelocityComponent(player);
     StateComponent updatedState = getStateComponent(player);
@@ -285,7 +292,7 @@ public class InputSystemTest {
   void testFastFall() {
     GravityComponent gravity = player.getComponent(GravityComponent.class).orElseThrow();
     playerInput.setCurrentVInput(InputComponent.VerticalInput.MOVE_DOWN);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     VelocityComponent updatedVelocity = getVelocityComponent(player);
     StateComponent updatedState = getStateComponent(player);
@@ -298,7 +305,7 @@ public class InputSystemTest {
     assertEquals(State.FAST_FALL, updatedState.state(), "State should be FAST_FALL");
 
     playerInput.setCurrentVInput(InputComponent.VerticalInput.NONE);
-    world.update(DELTA_TIME_IGNORED);
+    world.update(DELTA_TIME);
 
     updatedVelocity = getVelocityComponent(player);
     updatedState = getStateComponent(player);
@@ -311,4 +318,38 @@ public class InputSystemTest {
     assertEquals(
         State.FALL, updatedState.state(), "State should return FALL after releasing fast fall");
   }
+
+  @Test
+  void testUpdateDoesNotAllocatePerPlayer() {
+    var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    World soaWorld = new WorldImpl(StorageLayout.STRUCTURE_OF_ARRAYS);
+    soaWorld.addSystem(new InputSystem());
+    Entity ground = soaWorld.createEntity().addComponent(new SolidComponent());
+    for (int i = 0; i < PLAYERS; i++) {
+      InputComponent input = new InputComponent();
+      input.setCurrentHInput(i % 2 == 0 ? HorizontalInput.MOVE_RIGHT : HorizontalInput.NONE);
+      Entity other =
+          soaWorld
+              .createEntity()
+              .addComponent(input)
+              .addComponent(new VelocityComponent(0, 0))
+              .addComponent(new StateComponent(State.IDLE, Direction.RIGHT))
+              .addComponent(new PositionComponent(10, 10));
+      if (i % 3 != 0) {
+        other.addComponent(new GravityComponent(GRAVITY));
+        other.addComponent(new CollisionEventComponent(ground));
+      }
+    }
+    for (int i = 0; i < WARMUP_UPDATES; i++) {
+      soaWorld.update(DELTA_TIME);
+    }
+    long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    for (int i = 0; i < MEASURED_UPDATES; i++) {
+      soaWorld.update(DELTA_TIME);
+    }
+    long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+    assertTrue(
+        allocated / ((long) MEASURED_UPDATES * PLAYERS) < MAX_BYTES_PER_PLAYER,
+        "Handling the input should not allocate per player, allocated " + allocated + " bytes.");
+  }
 }
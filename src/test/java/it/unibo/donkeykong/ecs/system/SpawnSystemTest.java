@@ -3,6 +3,7 @@ package it.unibo.donkeykong.ecs.system;
 import static it.unibo.donkeykong.core.Constants.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import it.unibo.donkeykong.core.GameSetup;
 import it.unibo.donkeykong.core.WorldImpl;
 import it.unibo.donkeykong.core.api.World;
 import it.unibo.donkeykong.ecs.component.*;
@@ -10,11 +11,14 @@ import it.unibo.donkeykong.ecs.component.BouncinessComponent;
 import it.unibo.donkeykong.ecs.component.StateComponent.*;
 import it.unibo.donkeykong.ecs.entity.EntityFactoryImpl;
 import it.unibo.donkeykong.ecs.entity.api.Entity;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class SpawnSystemTest {
+  private static final int HOUR_TICKS = 3600 * TICK_RATE;
+
   private World world;
 
   @BeforeEach
@@ -70,6 +74,23 @@ public class SpawnSystemTest {
         LEFT_BARREL_SPAWN, thirdBarrel.getComponent(PositionComponent.class).orElseThrow());
   }
 
+  @Test
+  void testSimulationSpawnsOneBarrelPerIntervalOverAnHour() {
+    World game = new WorldImpl();
+    GameSetup.addSimulationSystems(game, new EntityFactoryImpl(game));
+    List<Integer> spawnTicks = new ArrayList<>();
+    game.onAdd(
+        BouncinessComponent.class, (barrel, bounciness) -> spawnTicks.add(game.currentTick()));
+    for (int i = 0; i < HOUR_TICKS; i++) {
+      game.update(REFERENCE_STEP);
+    }
+    for (int i = 1; i < spawnTicks.size(); i++) {
+      assertNotEquals(
+          spawnTicks.get(i - 1), spawnTicks.get(i), "Two barrels spawned by the same update");
+    }
+    assertTrue(spawnTicks.size() >= HOUR_TICKS / (int) (SPAWN_INTERVAL * TICK_RATE) - 1);
+  }
+
   private Entity spawnBarrel() {
     world.update(SPAWN_INTERVAL);
     return world.getEntitiesWithComponents(List.of(BouncinessComponent.class)).stream()
@@ -0,0 +1,25 @@
+package it.unibo.donkeykong.headless;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.Constants;
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.ecs.component.DamageComponent;
+import it.unibo.donkeykong.ecs.component.InputComponent;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class HeadlessSimulationTest {
+
+  @Test
+  void testRunUnpacedSimulatesTheGame() {
+    HeadlessSimulation simulation = new HeadlessSimulation(new WorldImpl());
+    long steps = (long) (Constants.SPAWN_INTERVAL * Constants.TICK_RATE) + 1;
+    simulation.runUnpaced(steps);
+    assertEquals(steps, simulation.ticks());
+    assertEquals(
+        1, simulation.world().getEntitiesWithComponents(List.of(InputComponent.class)).size());
+    assertFalse(
+        simulation.world().getEntitiesWithComponents(List.of(DamageComponent.class)).isEmpty());
+  }
+}
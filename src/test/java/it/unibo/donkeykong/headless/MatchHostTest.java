@@ -0,0 +1,114 @@
+package it.unibo.donkeykong.headless;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MatchHostTest {
+
+  private static final int TICK_RATE = 200;
+  private static final long TIMEOUT_NANOS = 5_000_000_000L;
+  private static final int FAILING_TICK = 20;
+
+  @Test
+  void testMatchesArePinnedToTheLeastLoadedThread() {
+    try (MatchHost host = new MatchHost(2)) {
+      List<Integer> threads = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        threads.add(host.host(new WorldImpl(), TICK_RATE).thread());
+      }
+      assertEquals(List.of(0, 1, 0, 1), threads);
+    }
+  }
+
+  @Test
+  void testHostedMatchesTick() throws InterruptedException {
+    try (MatchHost host = new MatchHost(2)) {
+      List<Match> matches = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        matches.add(host.host(new HeadlessSimulation(new WorldImpl()).world(), TICK_RATE));
+      }
+      long start = System.nanoTime();
+      while (matches.stream().anyMatch(match -> match.stats().ticks() < 10)
+          && System.nanoTime() - start < TIMEOUT_NANOS) {
+        Thread.sleep(10);
+      }
+      for (Match match : matches) {
+        MatchStats stats = match.stats();
+        assertTrue(stats.ticks() >= 10);
+        assertTrue(stats.maxLatenessNanos() >= stats.meanLatenessNanos());
+      }
+    }
+  }
+
+  @Test
+  void testStoppedMatchNoLongerTicks() throws InterruptedException {
+    try (MatchHost host = new MatchHost(1)) {
+      Match match = host.host(new WorldImpl(), TICK_RATE);
+      long start = System.nanoTime();
+      while (match.stats().ticks() == 0 && System.nanoTime() - start < TIMEOUT_NANOS) {
+        Thread.sleep(10);
+      }
+      match.stop();
+      Thread.sleep(50);
+      long ticks = match.stats().ticks();
+      Thread.sleep(50);
+      assertTrue(match.isStopped());
+      assertEquals(ticks, match.stats().ticks());
+    }
+  }
+
+  @Test
+  void testFailedMatchIsStoppedWithoutStoppingItsThread() throws InterruptedException {
+    try (MatchHost host = new MatchHost(2)) {
+      World failing = new WorldImpl();
+      failing.addSystem(
+          new GameSystem() {
+            private int updates;
+
+            @Override
+            public void update(World world, float deltaTime) {
+              if (++this.updates > FAILING_TICK) {
+                throw new IllegalStateException("Broken system");
+              }
+            }
+          });
+      Match failed = host.host(failing, TICK_RATE);
+      host.host(new WorldImpl(), TICK_RATE);
+      Match sibling = host.host(new WorldImpl(), TICK_RATE);
+      assertEquals(failed.thread(), sibling.thread());
+      long start = System.nanoTime();
+      while ((!failed.isStopped() || sibling.stats().ticks() < 10)
+          && System.nanoTime() - start < TIMEOUT_NANOS) {
+        Thread.sleep(10);
+      }
+      assertTrue(sibling.stats().ticks() >= 10);
+      assertFalse(sibling.isStopped());
+      assertTrue(failed.isStopped());
+      assertEquals("Broken system", failed.failure().orElseThrow().getMessage());
+      assertEquals(FAILING_TICK, failed.stats().ticks());
+      assertEquals(failed.thread(), host.host(new WorldImpl(), TICK_RATE).thread());
+    }
+  }
+
+  @Test
+  void testClosedHostRejectsMatches() {
+    MatchHost host = new MatchHost(1);
+    host.close();
+    assertThrows(IllegalStateException.class, () -> host.host(new WorldImpl(), TICK_RATE));
+    assertThrows(IllegalArgumentException.class, () -> new MatchHost(0));
+  }
+
+  @Test
+  void testInvalidTickRateIsRejected() {
+    try (MatchHost host = new MatchHost(1)) {
+      assertThrows(IllegalArgumentException.class, () -> host.host(new WorldImpl(), 0));
+      assertThrows(IllegalArgumentException.class, () -> host.host(new WorldImpl(), -1));
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package it.unibo.donkeykong.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.StorageLayout;
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.ecs.component.PositionComponent;
+import it.unibo.donkeykong.ecs.component.VelocityComponent;
+import it.unibo.donkeykong.ecs.system.GravitySystem;
+import it.unibo.donkeykong.ecs.system.MovementSystem;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+public class SystemMetricsTest {
+
+  private static final float DELTA_TIME = 0.016f;
+  private static final int UPDATES = 10;
+  private static final int ENTITIES = 5;
+  private static final int PARALLEL_ENTITIES = 10_000;
+
+  @Test
+  void testMeasuredWorldRecordsEachSystem() {
+    WorldImpl world = new WorldImpl();
+    SystemMetrics metrics = new SystemMetrics();
+    world.setSystemListener(metrics);
+    world.addSystem(new MovementSystem());
+    world.addSystem(new GravitySystem());
+    for (int i = 0; i < ENTITIES; i++) {
+      world
+          .createEntity()
+          .addComponent(new PositionComponent(i, i))
+          .addComponent(new VelocityComponent(1, 1));
+    }
+    for (int count = 0; count < UPDATES; count++) {
+      world.update(DELTA_TIME);
+    }
+    assertEquals(
+        List.of("GravitySystem", "MovementSystem"), List.copyOf(metrics.systems().keySet()));
+    SystemStats movement = metrics.systems().get("MovementSystem");
+    assertEquals(UPDATES, movement.updates());
+    assertEquals(UPDATES, Arrays.stream(movement.bucketCounts()).sum());
+    assertEquals(ENTITIES, movement.matchedEntities());
+    assertEquals(0, metrics.systems().get("GravitySystem").matchedEntities());
+    String text = metrics.toPrometheus();
+    assertTrue(
+        text.contains(
+            "donkeykong_system_update_seconds_bucket{system=\"MovementSystem\",le=\"+Inf\"} "
+                + UPDATES
+                + "\n"));
+    assertTrue(
+        text.contains("donkeykong_system_matched_entities{system=\"MovementSystem\"} " + ENTITIES));
+  }
+
+  @Test
+  void testParallelIterationsAreCountedApart() {
+    WorldImpl world = new WorldImpl(StorageLayout.OBJECTS, ForkJoinPool.commonPool());
+    SystemMetrics metrics = new SystemMetrics();
+    world.setSystemListener(metrics);
+    world.addSystem(new MovementSystem());
+    world.addSystem(new GravitySystem());
+    for (int i = 0; i < PARALLEL_ENTITIES; i++) {
+      world
+          .createEntity()
+          .addComponent(new PositionComponent(i, i))
+          .addComponent(new VelocityComponent(1, 1));
+    }
+    for (int count = 0; count < UPDATES; count++) {
+      world.update(DELTA_TIME);
+    }
+    SystemStats movement = metrics.systems().get("MovementSystem");
+    assertEquals(UPDATES, movement.updates());
+    assertEquals(UPDATES, movement.parallelUpdates());
+    assertEquals(PARALLEL_ENTITIES, movement.matchedEntities());
+    assertEquals(0, metrics.systems().get("GravitySystem").parallelUpdates());
+    assertTrue(
+        metrics
+            .toPrometheus()
+            .contains(
+                "donkeykong_system_parallel_updates_total{system=\"MovementSystem\"} " + UPDATES));
+  }
+
+  @Test
+  void testUnmeasuredWorldRecordsNothing() {
+    WorldImpl world = new WorldImpl();
+    SystemMetrics metrics = new SystemMetrics();
+    world.addSystem(new MovementSystem());
+    world.setSystemListener(metrics);
+    world.setSystemListener(null);
+    world.update(DELTA_TIME);
+    assertTrue(metrics.systems().isEmpty());
+  }
+}
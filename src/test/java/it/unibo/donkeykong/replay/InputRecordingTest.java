@@ -0,0 +1,127 @@
+package it.unibo.donkeykong.replay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.StorageLayout;
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.AnimationComponent;
+import it.unibo.donkeykong.ecs.component.InputComponent;
+import it.unibo.donkeykong.ecs.component.InputComponent.HorizontalInput;
+import it.unibo.donkeykong.ecs.component.InputComponent.VerticalInput;
+import it.unibo.donkeykong.ecs.component.StateComponent.State;
+import it.unibo.donkeykong.ecs.entity.api.Entity;
+import it.unibo.donkeykong.ecs.system.api.GameSystem;
+import it.unibo.donkeykong.headless.HeadlessSimulation;
+import it.unibo.donkeykong.scenario.Scenario;
+import it.unibo.donkeykong.scenario.ScenarioInputSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+public class InputRecordingTest {
+
+  private static final int TICKS = 600;
+  private static final int INPUT_PERIOD = 45;
+
+  /**
+   * Display system animating the first player only, moving it to another archetype as the systems
+   * of a world shown on screen do, so that the world iterates its players in another order.
+   */
+  private static class FirstPlayerAnimator implements GameSystem {
+    private boolean animated = false;
+
+    @Override
+    public void update(World world, float deltaTime) {
+      if (!this.animated) {
+        List<Entity> players = new ArrayList<>();
+        world.forEach(InputComponent.class, (entity, input) -> players.add(entity));
+        world.commands().addComponent(players.get(0), new AnimationComponent(0, State.IDLE, 0));
+        this.animated = true;
+      }
+    }
+  }
+
+  /** Player pressing a different combination of inputs every few ticks. */
+  private static class ScriptedPlayer implements GameSystem {
+    private int tick = 0;
+
+    @Override
+    public void update(World world, float deltaTime) {
+      final int phase = this.tick++ / INPUT_PERIOD;
+      world.forEach(
+          InputComponent.class,
+          (entity, input) -> {
+            input.setCurrentHInput(HorizontalInput.values()[phase % 3]);
+            input.setCurrentVInput(VerticalInput.values()[phase % 2]);
+            input.setJumpPressed(input.isJumpPressed() || phase % 4 == 1);
+          });
+    }
+  }
+
+  @Test
+  void testReplayEndsInTheRecordedState() throws Exception {
+    InputRecorder recorder = new InputRecorder();
+    HeadlessSimulation recorded =
+        new HeadlessSimulation(new WorldImpl(), List.of(new ScriptedPlayer(), recorder));
+    recorded.runUnpaced(TICKS);
+    InputRecording recording = recorder.finish(recorded.world());
+    assertEquals(TICKS, recording.ticks().size());
+    assertEquals(WorldDigest.of(recorded.world()), recording.digest());
+
+    Path file = Files.createTempFile("donkeykong", ".rec");
+    try {
+      recording.save(file);
+      assertEquals(recording, InputRecording.load(file));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+
+    HeadlessSimulation replayed = HeadlessSimulation.replay(new WorldImpl(), recording);
+    assertEquals(TICKS, replayed.ticks());
+    assertEquals(recording.digest(), WorldDigest.of(replayed.world()));
+    HeadlessSimulation parallel =
+        HeadlessSimulation.replay(
+            new WorldImpl(StorageLayout.PACKED, ForkJoinPool.commonPool()), recording);
+    assertEquals(recording.digest(), WorldDigest.of(parallel.world()));
+    HeadlessSimulation idle = new HeadlessSimulation(new WorldImpl());
+    idle.runUnpaced(TICKS);
+    assertNotEquals(recording.digest(), WorldDigest.of(idle.world()));
+  }
+
+  @Test
+  void testReplayDoesNotDependOnTheOrderOfThePlayers() {
+    Scenario scenario = Scenario.parse("players=2 barrels=20 inputs=random seed=5");
+    InputRecorder recorder = new InputRecorder();
+    HeadlessSimulation recorded =
+        new HeadlessSimulation(
+            new WorldImpl(),
+            scenario,
+            List.of(new ScenarioInputSystem(scenario), new FirstPlayerAnimator(), recorder));
+    List<Integer> players = playerOrder(recorded.world());
+    recorded.runUnpaced(1);
+    assertEquals(List.of(players.get(1), players.get(0)), playerOrder(recorded.world()));
+    recorded.runUnpaced(TICKS - 1);
+    InputRecording recording = recorder.finish(recorded.world());
+
+    HeadlessSimulation replayed = HeadlessSimulation.replay(new WorldImpl(), scenario, recording);
+    assertEquals(recording.digest(), WorldDigest.of(replayed.world()));
+  }
+
+  private static List<Integer> playerOrder(World world) {
+    List<Integer> order = new ArrayList<>();
+    world.forEach(InputComponent.class, (entity, input) -> order.add(entity.getId()));
+    return order;
+  }
+
+  @Test
+  void testSampleCodes() {
+    InputSample sample = new InputSample(HorizontalInput.MOVE_LEFT, VerticalInput.MOVE_DOWN, true);
+    assertEquals("LD1", sample.encode());
+    assertEquals(sample, InputSample.decode(sample.encode()));
+    assertThrows(IllegalArgumentException.class, () -> InputSample.decode("XN0"));
+  }
+}
@@ -0,0 +1,83 @@
+package it.unibo.donkeykong.scenario;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unibo.donkeykong.core.WorldImpl;
+import it.unibo.donkeykong.core.api.World;
+import it.unibo.donkeykong.ecs.component.ClimbableComponent;
+import it.unibo.donkeykong.ecs.component.DamageComponent;
+import it.unibo.donkeykong.ecs.component.InputComponent;
+import it.unibo.donkeykong.ecs.component.SolidComponent;
+import it.unibo.donkeykong.ecs.component.api.Component;
+import it.unibo.donkeykong.headless.HeadlessSimulation;
+import it.unibo.donkeykong.replay.InputRecorder;
+import it.unibo.donkeykong.replay.InputRecording;
+import it.unibo.donkeykong.replay.WorldDigest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ScenarioTest {
+
+  private static final int TICKS = 300;
+
+  @Test
+  void testParse() {
+    Scenario scenario =
+        Scenario.parse(
+            "platforms=100 ladders=30  barrels=50 spawnInterval=0.5 players=4 inputs=scripted"
+                + " script=RN0*2,NN1 seed=9");
+    assertEquals(100, scenario.platforms());
+    assertEquals(30, scenario.ladders());
+    assertEquals(50, scenario.barrels());
+    assertEquals(0.5f, scenario.spawnInterval());
+    assertEquals(4, scenario.players());
+    assertEquals(Scenario.Inputs.SCRIPTED, scenario.inputs());
+    assertEquals(3, scenario.script().size());
+    assertTrue(scenario.script().get(2).jump());
+    assertEquals(9, scenario.seed());
+    assertEquals(Scenario.DEFAULT, Scenario.parse(""));
+    assertThrows(IllegalArgumentException.class, () -> Scenario.parse("walls=3"));
+    assertThrows(IllegalArgumentException.class, () -> Scenario.parse("barrels=many"));
+    assertThrows(IllegalArgumentException.class, () -> Scenario.parse("players=-1"));
+    assertThrows(IllegalArgumentException.class, () -> Scenario.parse("script=RN0*0"));
+  }
+
+  @Test
+  void testPopulate() {
+    World world = new WorldImpl();
+    Scenario.parse("platforms=250 ladders=40 barrels=120 players=6").populate(world);
+    assertEquals(250, count(world, SolidComponent.class));
+    assertEquals(40, count(world, ClimbableComponent.class));
+    assertEquals(120, count(world, DamageComponent.class));
+    assertEquals(6, count(world, InputComponent.class));
+  }
+
+  @Test
+  void testBarrelsSpawnAtTheScenarioRate() {
+    HeadlessSimulation simulation =
+        new HeadlessSimulation(new WorldImpl(), Scenario.parse("spawnInterval=0.005 players=0"));
+    simulation.runUnpaced(1);
+    assertTrue(count(simulation.world(), DamageComponent.class) >= 3);
+  }
+
+  @Test
+  void testSameScenarioGivesTheSameMatch() {
+    Scenario scenario = Scenario.parse("barrels=40 players=5 inputs=random seed=3");
+    InputRecorder recorder = new InputRecorder();
+    HeadlessSimulation first =
+        new HeadlessSimulation(
+            new WorldImpl(), scenario, List.of(new ScenarioInputSystem(scenario), recorder));
+    first.runUnpaced(TICKS);
+    HeadlessSimulation second = new HeadlessSimulation(new WorldImpl(), scenario);
+    second.runUnpaced(TICKS);
+    assertEquals(WorldDigest.of(first.world()), WorldDigest.of(second.world()));
+
+    InputRecording recording = recorder.finish(first.world());
+    HeadlessSimulation replayed = HeadlessSimulation.replay(new WorldImpl(), scenario, recording);
+    assertEquals(recording.digest(), WorldDigest.of(replayed.world()));
+  }
+
+  private static int count(World world, Class<? extends Component> componentClass) {
+    return world.getEntitiesWithComponents(List.of(componentClass)).size();
+  }
+}